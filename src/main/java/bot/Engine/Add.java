@@ -55,7 +55,6 @@ public class Add extends Section implements Command {
      */
     @Override
     public void runCmd(SlashCommandEvent sc) {
-        sc.deferReply(false).queue();
         List<OptionMapping> args = sc.getOptions();
 
         StringBuilder listOfUsers = new StringBuilder();
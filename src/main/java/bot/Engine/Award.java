@@ -1,6 +1,8 @@
 package bot.Engine;
 
 import bot.Engine.Templates.Command;
+import bot.Tools.Resolver;
+import bot.Tools.RolePlan;
 
 import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.Member;
@@ -10,6 +12,7 @@ import net.dv8tion.jda.api.interactions.commands.OptionMapping;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -30,106 +33,104 @@ public class Award extends Section implements Command {
         super(abbreviation);
     }
 
+    /** The leaderboard roles of a section, looked up once per award. */
+    private class LeaderboardRoles {
+
+        /** The current 1st, 2nd, and 3rd place roles. */
+        private final List<Role> podium;
+
+        /** The current Top 10 role. */
+        private final Role currentTopTen;
+
+        /** The past podium role. */
+        private final Role pastPodium;
+
+        /** The past Top 10 role. */
+        private final Role pastTopTen;
+
+        /**
+         * Looks up the leaderboard roles.
+         * @param sc the user's inputted command.
+         */
+        private LeaderboardRoles(SlashCommandEvent sc) {
+            podium = Arrays.asList(
+                    getRole(sc, "1st " + getSection() + " Leaderboard"),
+                    getRole(sc, "2nd " + getSection() + " Leaderboard"),
+                    getRole(sc, "3rd " + getSection() + " Leaderboard"));
+            currentTopTen = getRole(sc, getSection() + " Leaderboard Top 10");
+            pastPodium = getRole(sc,
+                    "Past " + getSection() + " Leaderboard Podium");
+            pastTopTen = getRole(sc,
+                    "Past " + getSection() + " Leaderboard Top 10");
+        }
+    }
+
     /**
-     * Modifies roles from the previous Cycle.
-     * @param sc the user's inputted command.
+     * Plans role changes from the previous Cycle.
+     * @param plan the plan to add the changes to.
+     * @param roles the section's leaderboard roles.
      * @param role the role to focus on.
-     * @param playerID the Discord ID of the player to
-     *                 adjust the roles of.
+     * @param player the player to adjust the roles of.
      */
-    private void adjustLastCycleRoles(SlashCommandEvent sc,
-                                      String role, String playerID) {
-        boolean isPodiumRole = role.startsWith("1st")
-                || role.startsWith("2nd") || role.startsWith("3rd");
-
-        if (isPodiumRole) {
-            modifyRoles(sc, playerID,
-                    Arrays.asList(
-                            getRole(sc, "Past " + getSection() + " Leaderboard Podium"),
-                            getRole(sc, "Past " + getSection() + " Leaderboard Top 10")),
-                    Arrays.asList(
-                            getRole(sc, role),
-                            getRole(sc, getSection() + " Leaderboard Top 10")));
+    private void adjustLastCycleRoles(RolePlan plan, LeaderboardRoles roles,
+                                      Role role, Member player) {
+        if (roles.podium.contains(role)) {
+            plan.change(player,
+                    Arrays.asList(roles.pastPodium, roles.pastTopTen),
+                    Arrays.asList(role, roles.currentTopTen));
         } else {
-            modifyRoles(sc, playerID,
-                    Collections.singletonList(
-                            getRole(sc, "Past " + getSection() + " Leaderboard Top 10")),
-                    Collections.singletonList(
-                            getRole(sc, role)));
+            plan.change(player,
+                    Collections.singletonList(roles.pastTopTen),
+                    Collections.singletonList(role));
         }
     }
 
     /**
      * Retrieves the new current roles to add to a player.
-     * @param sc the user's inputted command.
-     * @param listOfUsers the list of players awarded by the command.
+     * @param roles the section's leaderboard roles.
      * @param role the role to focus on.
-     * @param playerID the Discord ID of the player.
+     * @param player the player to adjust the roles of.
      */
-    private List<Role> getNewRolesToAdd(SlashCommandEvent sc,
-                                        StringBuilder listOfUsers,
-                                        String role, String playerID) {
-        Member player = findMember(sc, playerID);
-
-        Role firstPlaceRole =
-                getRole(sc, "1st " + getSection() + " Leaderboard");
-        Role secondPlaceRole =
-                getRole(sc, "2nd " + getSection() + " Leaderboard");
-        Role thirdPlaceRole =
-                getRole(sc, "3rd " + getSection() + " Leaderboard");
-        Role currentTopTenRole =
-                getRole(sc, getSection() + " Leaderboard Top 10");
-        Role pastPodiumRole =
-                getRole(sc, "Past " + getSection() + " Leaderboard Podium");
-        Role pastTopTenRole =
-                getRole(sc, "Past " + getSection() + " Leaderboard Top 10");
-
+    private List<Role> getNewRolesToAdd(LeaderboardRoles roles,
+                                        Role role, Member player) {
         List<Role> rolesToAdd = new ArrayList<>(Arrays.asList(
-                currentTopTenRole, pastPodiumRole, pastTopTenRole,
-                getRole(sc, role)));
+                roles.currentTopTen, roles.pastPodium, roles.pastTopTen,
+                role));
 
-        if (rolesToAdd.get(0).equals(rolesToAdd.get(3))) {
-            rolesToAdd.remove(currentTopTenRole);
+        if (roles.currentTopTen.equals(role)) {
+            rolesToAdd.remove(roles.currentTopTen);
         }
 
         List<Role> playerRoles = player.getRoles();
-        if (!playerRoles.contains(currentTopTenRole)) {
-            rolesToAdd.remove(pastTopTenRole);
+        if (!playerRoles.contains(roles.currentTopTen)) {
+            rolesToAdd.remove(roles.pastTopTen);
         }
-        if (!playerRoles.contains(firstPlaceRole)
-                && !playerRoles.contains(secondPlaceRole)
-                && !playerRoles.contains(thirdPlaceRole)) {
-            rolesToAdd.remove(pastPodiumRole);
+        if (Collections.disjoint(playerRoles, roles.podium)) {
+            rolesToAdd.remove(roles.pastPodium);
         }
 
-        listOfUsers.append(player.getAsMention()).append(" ");
         return rolesToAdd;
     }
 
     /**
-     * Modifies roles for the current Cycle.
-     * @param sc the user's inputted command.
+     * Plans role changes for the current Cycle.
+     * @param plan the plan to add the changes to.
+     * @param roles the section's leaderboard roles.
      * @param listOfUsers the list of players awarded by the command.
-     * @param newPlacingsIDs the IDs of the players to give the role to.
+     * @param newPlacings the players to give the role to.
      * @param role the role to focus on.
      */
-    private void adjustCurrentCycleRoles(SlashCommandEvent sc,
+    private void adjustCurrentCycleRoles(RolePlan plan, LeaderboardRoles roles,
                                          StringBuilder listOfUsers,
-                                         List<String> newPlacingsIDs,
-                                         String role) {
-        List<Role> podiumRoles = new ArrayList<>(Arrays.asList(
-                getRole(sc, "1st " + getSection() + " Leaderboard"),
-                getRole(sc, "2nd " + getSection() + " Leaderboard"),
-                getRole(sc, "3rd " + getSection() + " Leaderboard")));
-
-        for (String playerID : newPlacingsIDs) {
-            List<Role> rolesToAdd = getNewRolesToAdd(sc,
-                    listOfUsers, role, playerID);
-            for (Role newRole : rolesToAdd) {
-                podiumRoles.remove(newRole);
-            }
-
-            modifyRoles(sc, playerID, rolesToAdd, podiumRoles);
+                                         Collection<Member> newPlacings,
+                                         Role role) {
+        for (Member player : newPlacings) {
+            List<Role> rolesToAdd = getNewRolesToAdd(roles, role, player);
+            List<Role> rolesToRemove = new ArrayList<>(roles.podium);
+            rolesToRemove.removeAll(rolesToAdd);
+
+            plan.change(player, rolesToAdd, rolesToRemove);
+            listOfUsers.append(player.getAsMention()).append(" ");
         }
     }
 
@@ -141,8 +142,6 @@ public class Award extends Section implements Command {
      */
     private void giveAward(SlashCommandEvent sc, String role,
                            List<String> newPlacingsIDs) {
-        sc.deferReply(true).queue();
-
         try {
             Guild server = sc.getGuild();
             role = String.format(role, getSection());
@@ -150,24 +149,38 @@ public class Award extends Section implements Command {
                 throw new NullPointerException("Server link disconnected.");
             }
 
-            List<String> oldPlacingsIDs = new ArrayList<>();
-            for (Member player : server.getMembersWithRoles(getRole(sc, role))) {
-                oldPlacingsIDs.add(player.getId());
+            LeaderboardRoles roles = new LeaderboardRoles(sc);
+            Role awardRole = getRole(sc, role);
+            if (awardRole == null) {
+                throw new NullPointerException("Award role not found.");
             }
-            for (String playerID : oldPlacingsIDs) {
-                if (newPlacingsIDs.contains(playerID)) {
-                    continue;
-                }
 
-                adjustLastCycleRoles(sc, role, playerID);
+            RolePlan plan = new RolePlan();
+            for (Member player : server.getMembersWithRoles(awardRole)) {
+                if (!newPlacingsIDs.contains(player.getId())) {
+                    adjustLastCycleRoles(plan, roles, awardRole, player);
+                }
             }
 
             StringBuilder listOfUsers = new StringBuilder();
-            adjustCurrentCycleRoles(sc, listOfUsers, newPlacingsIDs, role);
+            adjustCurrentCycleRoles(plan, roles, listOfUsers,
+                    Resolver.getInstance()
+                            .findMembers(server, newPlacingsIDs).values(),
+                    awardRole);
             listOfUsers.delete(listOfUsers.length() - 1, listOfUsers.length())
                     .append("!");
 
-            editMessage(sc, "Award(s) given to " + listOfUsers);
+            plan.apply(server, (updated, total) -> editMessage(sc,
+                    "Updating roles... (" + updated + "/" + total + ")"))
+                    .thenAccept(failures -> {
+                        String result = "Award(s) given to " + listOfUsers;
+                        if (failures > 0) {
+                            result += "\n" + failures
+                                    + " player(s) could not be updated.";
+                        }
+
+                        editMessage(sc, result);
+                    });
         } catch (NullPointerException | IndexOutOfBoundsException e) {
             log("The role, " + role + ", could not be found.", true);
         }
@@ -4,7 +4,6 @@ import bot.Engine.Games.Drafts.DraftGame;
 import bot.Engine.Games.Drafts.DraftPlayer;
 import bot.Engine.Games.Drafts.DraftTeam;
 import bot.Engine.Section;
-import bot.Tools.GoogleSheetsAPI;
 
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.entities.Member;
@@ -154,13 +153,12 @@ public class AutoLog extends Section {
      *                    (0 if no errors occurred, 1 otherwise).
      * @param offset an index to offset the type arrays, based on the
      *               current team.
-     * @param link a connection to the spreadsheet.
      * @param data a map of all rows of the spreadsheet.
      */
     private void updateSpreadsheet(ManualLog log, DraftGame draft,
                                    ButtonClickEvent bc, DraftTeam team,
                                    int[] playerTypes, int[] errorsFound, int offset,
-                                   GoogleSheetsAPI link, TreeMap<Object, Object> data) {
+                                   TreeMap<Object, Object> data) {
         int i = 0;
         for (Map.Entry<String, DraftPlayer> player : team.getPlayers().entrySet()) {
             String currID = player.getKey();
@@ -175,16 +173,9 @@ public class AutoLog extends Section {
                 cmd = "sub";
             }
 
-            if (data.containsKey(currID)) {
-                PlayerStats stats = (PlayerStats) data.get(currID);
-                errorsFound[offset + i] = log.updateUser(
-                        cmd, gamesPlayed, gameWins, user, link, stats);
-                playerTypes[offset + i] = 0;
-            } else {
-                errorsFound[offset + i] = log.addUser(
-                        cmd, gamesPlayed, gameWins, user, link);
-                playerTypes[offset + i] = 1;
-            }
+            errorsFound[offset + i] = log.queueUser(
+                    cmd, gamesPlayed, gameWins, user, offset + i);
+            playerTypes[offset + i] = data.containsKey(currID) ? 0 : 1;
 
             i++;
         }
@@ -197,8 +188,9 @@ public class AutoLog extends Section {
      */
     public void matchReport(ButtonClickEvent bc, DraftGame draft) {
         try {
-            GoogleSheetsAPI link = new GoogleSheetsAPI(cyclesSheetID());
-            TreeMap<Object, Object> data = link.readSection(bc, CYCLES_TAB);
+            ManualLog log = new ManualLog(getPrefix());
+            TreeMap<Object, Object> data =
+                    Leaderboard.of(getPrefix()).getData(bc);
 
             DraftTeam team1 = draft.getProcess().getTeam1();
             DraftTeam team2 = draft.getProcess().getTeam2();
@@ -207,11 +199,13 @@ public class AutoLog extends Section {
             int[] playerTypes = new int[totalSize];
             int[] errorsFound = new int[totalSize];
 
-            ManualLog log = new ManualLog(getPrefix());
             updateSpreadsheet(log, draft, bc, team1, playerTypes,
-                    errorsFound, 0, link, data);
+                    errorsFound, 0, data);
             updateSpreadsheet(log, draft, bc, team2, playerTypes,
-                    errorsFound, team1.getPlayers().size(), link, data);
+                    errorsFound, team1.getPlayers().size(), data);
+            log.saveUsers(bc, errorsFound, String.format(
+                    "%s draft %s: %s - %s", getPrefix().toUpperCase(),
+                    draft.getNumDraft(), team1.getScore(), team2.getScore()));
 
             sendReport(log, draft, bc, team1, team2, playerTypes, errorsFound);
             draft.log(totalSize + " " + getPrefix().toUpperCase()
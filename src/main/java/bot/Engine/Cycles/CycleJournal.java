@@ -0,0 +1,347 @@
+package bot.Engine.Cycles;
+
+import bot.Tools.Journal;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * @author  Wil Aquino
+ * Date:    October 17, 2026
+ * Project: Libra
+ * Module:  CycleJournal.java
+ * Purpose: Records every change made to a section's leaderboard,
+ *          for undoing and replaying them.
+ */
+public class CycleJournal {
+
+    /** Kind of record written for a match report. */
+    public static final String REPORT = "report";
+
+    /** Kind of record written when a match report is undone. */
+    public static final String UNDO = "undo";
+
+    /** Kind of record starting a new cycle. */
+    private static final String CYCLE = "cycle";
+
+    /** The journals of each section, indexed by prefix. */
+    private static final Map<String, CycleJournal> JOURNALS = new HashMap<>();
+
+    /** The name of the journal file, without its extension. */
+    private final String name;
+
+    /** The underlying journal file. */
+    private final Journal journal;
+
+    /** The ID to give the next record. */
+    private long nextID;
+
+    /** A player's stats after a change, and how much the change moved them. */
+    public static class Change {
+
+        /** The Discord ID of the player. */
+        private final String playerID;
+
+        /** The player's stats after the change. */
+        private final PlayerStats after;
+
+        /** The change in won sets, lost sets, won games, and lost games. */
+        private final int[] delta;
+
+        /**
+         * Constructs a change between two sets of stats.
+         * @param playerID the Discord ID of the player.
+         * @param before the player's stats before the change,
+         *               or null if they were new.
+         * @param after the player's stats after the change.
+         */
+        public Change(String playerID, PlayerStats before, PlayerStats after) {
+            this(playerID, after, new int[] {
+                    after.getSetWins() - (before == null ? 0 : before.getSetWins()),
+                    after.getSetLosses() - (before == null ? 0 : before.getSetLosses()),
+                    after.getGamesWon() - (before == null ? 0 : before.getGamesWon()),
+                    after.getGamesLost() - (before == null ? 0 : before.getGamesLost())});
+        }
+
+        /**
+         * Constructs a recorded change.
+         * @param playerID the Discord ID of the player.
+         * @param after the player's stats after the change.
+         * @param delta the change in each stat.
+         */
+        private Change(String playerID, PlayerStats after, int[] delta) {
+            this.playerID = playerID;
+            this.after = after;
+            this.delta = delta;
+        }
+
+        /** Retrieves the Discord ID of the player. */
+        public String getPlayerID() {
+            return playerID;
+        }
+
+        /** Retrieves the player's stats after the change. */
+        public PlayerStats getAfter() {
+            return after;
+        }
+
+        /** Builds the change undoing this one. */
+        public Leaderboard.Delta reversal() {
+            return new Leaderboard.Delta(playerID, null, null,
+                    -delta[0], -delta[1], -delta[2], -delta[3]);
+        }
+
+        /**
+         * Reverts this change on top of a player's current stats.
+         * @param current the player's current stats.
+         * @return the player's stats without this change.
+         */
+        public PlayerStats revert(PlayerStats current) {
+            return new PlayerStats(current.getSpreadsheetPosition(),
+                    current.getName(), current.getNickname(),
+                    current.getSetWins() - delta[0],
+                    current.getSetLosses() - delta[1],
+                    current.getGamesWon() - delta[2],
+                    current.getGamesLost() - delta[3]);
+        }
+    }
+
+    /** A recorded group of changes, made by a single command. */
+    public static class Report {
+
+        /** The ID of the record. */
+        private final long id;
+
+        /** The kind of record. */
+        private final String kind;
+
+        /** The ID of the report this record undoes, if any. */
+        private final long target;
+
+        /** A description of the command which made the changes. */
+        private final String summary;
+
+        /** The changes made by the command. */
+        private final List<Change> changes;
+
+        /**
+         * Constructs a report.
+         * @param id the ID of the record.
+         * @param kind the kind of record.
+         * @param target the ID of the undone report, or -1 if none.
+         * @param summary a description of the command.
+         * @param changes the changes made by the command.
+         */
+        private Report(long id, String kind, long target,
+                       String summary, List<Change> changes) {
+            this.id = id;
+            this.kind = kind;
+            this.target = target;
+            this.summary = summary;
+            this.changes = changes;
+        }
+
+        /** Retrieves the ID of the record. */
+        public long getID() {
+            return id;
+        }
+
+        /** Retrieves a description of the command which made the changes. */
+        public String getSummary() {
+            return summary;
+        }
+
+        /** Retrieves the changes made by the command. */
+        public List<Change> getChanges() {
+            return Collections.unmodifiableList(changes);
+        }
+    }
+
+    /**
+     * Opens a journal file.
+     * @param name the name of the file, without its extension.
+     */
+    CycleJournal(String name) throws IOException {
+        this.name = name;
+        journal = new Journal(Paths.get(name + ".journal"));
+
+        nextID = 1;
+        for (Report report : readReports()) {
+            nextID = Math.max(nextID, report.id + 1);
+        }
+    }
+
+    /**
+     * Retrieves the journal of a section.
+     * @param prefix the prefix of the section.
+     */
+    public static synchronized CycleJournal of(String prefix)
+            throws IOException {
+        CycleJournal found = JOURNALS.get(prefix);
+        if (found == null) {
+            found = new CycleJournal("cycle" + prefix.toUpperCase());
+            JOURNALS.put(prefix, found);
+        }
+
+        return found;
+    }
+
+    /**
+     * Strips the separators of the record format from a field.
+     * @param field the field to clean.
+     */
+    private static String clean(Object field) {
+        return String.valueOf(field).replaceAll("[\\t\\r\\n]", " ");
+    }
+
+    /**
+     * Writes a record of changes.
+     * @param kind the kind of record.
+     * @param target the ID of the undone report, or -1 if none.
+     * @param summary a description of the command.
+     * @param changes the changes made by the command.
+     * @return the ID of the written record.
+     */
+    private synchronized long write(String kind, long target, String summary,
+                                    List<Change> changes) throws IOException {
+        long id = nextID;
+        StringBuilder record = new StringBuilder();
+        record.append(kind).append('\t').append(id).append('\t')
+                .append(target).append('\t').append(clean(summary));
+
+        for (Change change : changes) {
+            PlayerStats after = change.after;
+            record.append('\n').append(clean(change.playerID))
+                    .append('\t').append(after.getSpreadsheetPosition())
+                    .append('\t').append(clean(after.getName()))
+                    .append('\t').append(clean(after.getNickname()))
+                    .append('\t').append(after.getSetWins())
+                    .append('\t').append(after.getSetLosses())
+                    .append('\t').append(after.getGamesWon())
+                    .append('\t').append(after.getGamesLost());
+            for (int d : change.delta) {
+                record.append('\t').append(d);
+            }
+        }
+
+        journal.append(record.toString());
+        nextID++;
+        return id;
+    }
+
+    /**
+     * Records the changes made by a match report.
+     * @param summary a description of the command.
+     * @param changes the changes made by the command.
+     */
+    public void recordReport(String summary, List<Change> changes)
+            throws IOException {
+        write(REPORT, -1, summary, changes);
+    }
+
+    /**
+     * Records the undoing of a match report.
+     * @param undone the report which was undone.
+     * @param changes the changes made while undoing it.
+     */
+    public void recordUndo(Report undone, List<Change> changes)
+            throws IOException {
+        write(UNDO, undone.id, undone.summary, changes);
+    }
+
+    /**
+     * Parses a record.
+     * @param record the record to parse.
+     */
+    private static Report parse(String record) {
+        String[] lines = record.split("\n");
+        String[] header = lines[0].split("\t", 4);
+
+        List<Change> changes = new ArrayList<>();
+        for (int i = 1; i < lines.length; i++) {
+            String[] f = lines[i].split("\t");
+            PlayerStats after = new PlayerStats(Integer.parseInt(f[1]),
+                    f[2], f[3],
+                    Integer.parseInt(f[4]), Integer.parseInt(f[5]),
+                    Integer.parseInt(f[6]), Integer.parseInt(f[7]));
+            int[] delta = {Integer.parseInt(f[8]), Integer.parseInt(f[9]),
+                    Integer.parseInt(f[10]), Integer.parseInt(f[11])};
+            changes.add(new Change(f[0], after, delta));
+        }
+
+        return new Report(Long.parseLong(header[1]), header[0],
+                Long.parseLong(header[2]),
+                header.length > 3 ? header[3] : "", changes);
+    }
+
+    /** Retrieves every record of the current cycle, oldest first. */
+    private List<Report> readReports() throws IOException {
+        List<Report> reports = new ArrayList<>();
+        for (String record : journal.readAll()) {
+            reports.add(parse(record));
+        }
+
+        return reports;
+    }
+
+    /**
+     * Retrieves the latest match report which has not been undone.
+     * @return said report.
+     *         null if every report was undone.
+     */
+    public synchronized Report lastUndoable() throws IOException {
+        Deque<Report> undoable = new ArrayDeque<>();
+        for (Report report : readReports()) {
+            if (report.kind.equals(REPORT)) {
+                undoable.push(report);
+            } else if (report.kind.equals(UNDO)) {
+                undoable.removeIf(r -> r.id == report.target);
+            }
+        }
+
+        return undoable.peek();
+    }
+
+    /**
+     * Checks whether the journal holds every change of the current
+     * cycle, having been started at a cycle change.
+     */
+    public synchronized boolean coversCycle() throws IOException {
+        List<String> records = journal.readAll();
+        return !records.isEmpty() && parse(records.get(0)).kind.equals(CYCLE);
+    }
+
+    /**
+     * Rebuilds the leaderboard by replaying every recorded change.
+     * @return the leaderboard's rows, indexed by Discord ID.
+     */
+    public synchronized TreeMap<Object, Object> replay() throws IOException {
+        TreeMap<Object, Object> data = new TreeMap<>();
+        for (Report report : readReports()) {
+            for (Change change : report.changes) {
+                data.put(change.playerID, change.after);
+            }
+        }
+
+        return data;
+    }
+
+    /**
+     * Archives the current cycle's records and starts a new cycle.
+     * @param cycleName a name for the archived cycle.
+     */
+    public synchronized void rotate(String cycleName) throws IOException {
+        Path archive = Paths.get(name + "-" + cycleName + ".journal");
+        journal.rotate(archive);
+        write(CYCLE, -1, cycleName, Collections.emptyList());
+    }
+}
@@ -0,0 +1,144 @@
+package bot.Engine.Cycles;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+
+import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * @author  Wil Aquino
+ * Date:    October 17, 2026
+ * Project: Libra
+ * Module:  CycleTests.java
+ * Purpose: Dedicated class for unit testing cycle points
+ *          and the cycle journal.
+ */
+public class CycleTests {
+
+    /**
+     * Builds a sample player to use throughout the tests.
+     * @param name the formal name of the player.
+     * @param setWins the amount of won sets.
+     * @param setLosses the amount of lost sets.
+     * @param gameWins the amount of won games.
+     * @param gameLosses the amount of lost games.
+     */
+    private PlayerStats samplePlayer(String name, int setWins, int setLosses,
+                                     int gameWins, int gameLosses) {
+        return new PlayerStats(2, name, name,
+                setWins, setLosses, gameWins, gameLosses);
+    }
+
+    /** Tests if category points are awarded by dense rank. */
+    @Test
+    public void testRankPoints() {
+        double[] values = {5.0, 3.0, 5.0, 0.0, 1.0};
+        assertArrayEquals(new int[] {10, 9, 10, 0, 8},
+                PointsTable.rankPoints(values));
+
+        double[] many = new double[15];
+        for (int i = 0; i < many.length; i++) {
+            many[i] = many.length - i;
+        }
+        int[] tiers = PointsTable.rankPoints(many);
+        assertEquals(10, tiers[0]);
+        assertEquals(1, tiers[9]);
+        assertEquals(0, tiers[10]);
+        assertEquals(0, tiers[14]);
+    }
+
+    /** Tests if players are ordered and placed by their totals. */
+    @Test
+    public void testStandings() {
+        TreeMap<Object, Object> data = new TreeMap<>();
+        data.put("1", samplePlayer("a", 1, 1, 4, 4));
+        data.put("2", samplePlayer("b", 2, 0, 8, 1));
+        data.put("3", samplePlayer("c", 1, 1, 4, 4));
+        data.put("4", samplePlayer("d", 0, 0, 0, 0));
+
+        PointsTable table = new PointsTable(data, 0);
+        assertEquals(4, table.size());
+        assertEquals("2", table.getID(0));
+        assertEquals(Arrays.asList(10, 10, 10, 10, 10, 50),
+                table.getPoints(0));
+        assertEquals(Arrays.asList(9, 10, 9, 9, 9, 46),
+                table.getPoints(1));
+        assertEquals(0, table.getTotal(3));
+
+        List<Integer> placings = table.getPlacings();
+        assertEquals(Arrays.asList(1, 2, 2, 4), placings);
+    }
+
+    /** Tests if players under the set minimum are left out. */
+    @Test
+    public void testMinimumSets() {
+        TreeMap<Object, Object> data = new TreeMap<>();
+        data.put("1", samplePlayer("a", 1, 1, 4, 4));
+        data.put("2", samplePlayer("b", 0, 0, 0, 0));
+
+        PointsTable table = new PointsTable(data, 1);
+        assertEquals(1, table.size());
+        assertEquals("1", table.getID(0));
+    }
+
+    /** Tests if undo walks back through reports, latest first. */
+    @Test
+    public void testJournalUndo() throws IOException {
+        Files.deleteIfExists(Paths.get("cycleTEST.journal"));
+        CycleJournal journal = new CycleJournal("cycleTEST");
+
+        PlayerStats first = samplePlayer("a", 1, 0, 4, 2);
+        PlayerStats second = samplePlayer("a", 1, 1, 6, 6);
+        journal.recordReport("log 6 4 <@1>",
+                Collections.singletonList(new CycleJournal.Change("1", null, first)));
+        journal.recordReport("log 6 2 <@1>",
+                Collections.singletonList(new CycleJournal.Change("1", first, second)));
+
+        CycleJournal.Report latest = journal.lastUndoable();
+        assertEquals("log 6 2 <@1>", latest.getSummary());
+
+        PlayerStats reverted = latest.getChanges().get(0).revert(second);
+        assertEquals(1, reverted.getSetWins());
+        assertEquals(0, reverted.getSetLosses());
+        assertEquals(4, reverted.getGamesWon());
+        journal.recordUndo(latest, Collections.singletonList(
+                new CycleJournal.Change("1", second, reverted)));
+
+        assertEquals("log 6 4 <@1>", journal.lastUndoable().getSummary());
+        assertEquals(2, ((PlayerStats) journal.replay().get("1")).getGamesLost());
+        assertFalse(journal.coversCycle());
+
+        Files.deleteIfExists(Paths.get("cycleTEST.journal"));
+    }
+
+    /** Tests if a half-written record is dropped when reopening. */
+    @Test
+    public void testJournalDamagedTail() throws IOException {
+        Path path = Paths.get("cycleTEST.journal");
+        Files.deleteIfExists(path);
+        new CycleJournal("cycleTEST").recordReport("log 3 2 <@1>",
+                Collections.singletonList(new CycleJournal.Change(
+                        "1", null, samplePlayer("a", 1, 0, 2, 1))));
+        Files.write(path, new byte[] {0, 0, 0, 40, 1, 2},
+                StandardOpenOption.APPEND);
+
+        CycleJournal reopened = new CycleJournal("cycleTEST");
+        assertEquals("log 3 2 <@1>", reopened.lastUndoable().getSummary());
+        reopened.recordReport("log 3 1 <@1>",
+                Collections.singletonList(new CycleJournal.Change(
+                        "1", null, samplePlayer("a", 2, 0, 4, 1))));
+        assertEquals(4, ((PlayerStats) reopened.replay().get("1")).getGamesWon());
+
+        Files.deleteIfExists(path);
+    }
+}
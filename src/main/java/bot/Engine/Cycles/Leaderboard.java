@@ -0,0 +1,460 @@
+package bot.Engine.Cycles;
+
+import bot.Engine.Section;
+import bot.Tools.GoogleSheetsAPI;
+import bot.Tools.LocalStore;
+import bot.Tools.RowIndex;
+import bot.Tools.SheetsBatch;
+import bot.Tools.SheetsMirror;
+
+import net.dv8tion.jda.api.events.interaction.GenericInteractionCreateEvent;
+
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @author  Wil Aquino
+ * Date:    October 17, 2026
+ * Project: Libra
+ * Module:  Leaderboard.java
+ * Purpose: Keeps a section's "Current Cycle" leaderboard on disk,
+ *          mirroring its changes to the spreadsheet in the background.
+ */
+public class Leaderboard {
+
+    /** Time between mirrors to the spreadsheet, in seconds. */
+    private static final long MIRROR_INTERVAL = 15;
+
+    /** The leaderboards, indexed by section prefix. */
+    private static final Map<String, Leaderboard> LEADERBOARDS =
+            new ConcurrentHashMap<>();
+
+    /** The prefix of the leaderboard's section. */
+    private final String prefix;
+
+    /** Google Sheets ID of the leaderboard. */
+    private final String spreadsheetID;
+
+    /** The leaderboard's rows on disk, indexed by Discord ID. */
+    private LocalStore store;
+
+    /** The copier of changed rows to the spreadsheet. */
+    private SheetsMirror mirror;
+
+    /** The leaderboard's rows, indexed by Discord ID. */
+    private TreeMap<Object, Object> data;
+
+    /** Whether the rows should be imported from the spreadsheet again. */
+    private boolean reimport;
+
+    /** A change to a player's stats, made by a single report. */
+    public static class Delta {
+
+        /** The Discord ID of the player. */
+        private final String playerID;
+
+        /** The player's Discord tag, or null to keep the current one. */
+        private final String name;
+
+        /** The player's nickname, or null to keep the current one. */
+        private final String nickname;
+
+        /** The change in won sets, lost sets, won games, and lost games. */
+        private final int[] amounts;
+
+        /**
+         * Constructs a change to a player's stats.
+         * @param playerID the Discord ID of the player.
+         * @param name the player's Discord tag, or null to keep
+         *             the current one.
+         * @param nickname the player's nickname, or null to keep
+         *                 the current one.
+         * @param amounts the change in won sets, lost sets,
+         *                won games, and lost games.
+         */
+        public Delta(String playerID, String name, String nickname,
+                     int... amounts) {
+            this.playerID = playerID;
+            this.name = name;
+            this.nickname = nickname;
+            this.amounts = amounts;
+        }
+
+        /**
+         * Combines this change with a later one for the same player.
+         * @param later the later change.
+         */
+        private Delta plus(Delta later) {
+            int[] sum = new int[amounts.length];
+            for (int i = 0; i < sum.length; i++) {
+                sum[i] = amounts[i] + later.amounts[i];
+            }
+
+            return new Delta(playerID,
+                    later.name == null ? name : later.name,
+                    later.nickname == null ? nickname : later.nickname,
+                    sum);
+        }
+
+        /**
+         * Applies this change to a player's stats.
+         * @param current the player's current stats, or null if new.
+         * @param newRow the row to place a new player at.
+         * @return the player's stats after the change.
+         */
+        private PlayerStats applyTo(PlayerStats current, int newRow) {
+            if (current == null) {
+                current = new PlayerStats(newRow, name, nickname, 0, 0, 0, 0);
+            }
+
+            return new PlayerStats(current.getSpreadsheetPosition(),
+                    name == null ? current.getName() : name,
+                    nickname == null ? current.getNickname() : nickname,
+                    current.getSetWins() + amounts[0],
+                    current.getSetLosses() + amounts[1],
+                    current.getGamesWon() + amounts[2],
+                    current.getGamesLost() + amounts[3]);
+        }
+    }
+
+    /** The archival of a cycle, made from the leaderboard's final rows. */
+    public interface CycleChange {
+
+        /**
+         * Archives the cycle and prepares the next cycle's tab.
+         * @param data the leaderboard's rows, indexed by Discord ID.
+         */
+        void archive(TreeMap<Object, Object> data)
+                throws IOException, GeneralSecurityException;
+    }
+
+    /**
+     * Constructs a leaderboard.
+     * @param prefix the prefix of the leaderboard's section.
+     */
+    private Leaderboard(String prefix) {
+        this.prefix = prefix;
+        spreadsheetID = new Section(prefix).cyclesSheetID();
+    }
+
+    /**
+     * Retrieves the leaderboard of a section.
+     * @param prefix the prefix of the section.
+     */
+    public static Leaderboard of(String prefix) {
+        return LEADERBOARDS.computeIfAbsent(prefix, Leaderboard::new);
+    }
+
+    /** Retrieves the Google Sheets ID of the leaderboard. */
+    public String getSpreadsheetID() {
+        return spreadsheetID;
+    }
+
+    /**
+     * Converts a player's stats into a row of the store.
+     * @param stats the stats to convert.
+     */
+    private static List<String> toRow(PlayerStats stats) {
+        return Arrays.asList(
+                String.valueOf(stats.getSpreadsheetPosition()),
+                stats.getName(), stats.getNickname(),
+                String.valueOf(stats.getSetWins()),
+                String.valueOf(stats.getSetLosses()),
+                String.valueOf(stats.getGamesWon()),
+                String.valueOf(stats.getGamesLost()));
+    }
+
+    /**
+     * Converts a row of the store into a player's stats.
+     * @param row the row to convert.
+     */
+    private static PlayerStats fromRow(List<String> row) {
+        return new PlayerStats(Integer.parseInt(row.get(0)),
+                row.get(1), row.get(2),
+                Integer.parseInt(row.get(3)), Integer.parseInt(row.get(4)),
+                Integer.parseInt(row.get(5)), Integer.parseInt(row.get(6)));
+    }
+
+    /**
+     * Queues the spreadsheet writes of changed players, at the rows
+     * column A still places them at.
+     * @param batch the batch of writes to the spreadsheet.
+     * @param ids the Discord IDs of the changed players.
+     * @param rows the store holding the players' rows.
+     * @return False if the players' rows could not be located.
+     *         True otherwise.
+     */
+    private static boolean queueRows(SheetsBatch batch, Set<String> ids,
+                                     LocalStore rows) {
+        GoogleSheetsAPI link = batch.getLink();
+        RowIndex index;
+        try {
+            index = RowIndex.read(link, Section.CYCLES_TAB);
+        } catch (IOException e) {
+            LoggerFactory.getLogger(Leaderboard.class).error(
+                    "The leaderboard's rows could not be located.");
+            return false;
+        }
+
+        for (String id : ids) {
+            List<String> row = rows.get(id);
+            if (row == null) {
+                continue;
+            }
+
+            PlayerStats stats = fromRow(row);
+            int setsPlayed = stats.getSetWins() + stats.getSetLosses();
+            int gamesPlayed = stats.getGamesWon() + stats.getGamesLost();
+            double setWinrate = setsPlayed == 0
+                    ? 0.0 : (double) stats.getSetWins() / setsPlayed;
+            double gameWinrate = gamesPlayed == 0
+                    ? 0.0 : (double) stats.getGamesWon() / gamesPlayed;
+
+            // staff may have sorted or inserted rows since, so the
+            // player's position is reimported rather than written over
+            int position = index.locate(id, stats.getSpreadsheetPosition());
+            if (position != stats.getSpreadsheetPosition()) {
+                try {
+                    rows.setField(id, 0, String.valueOf(position));
+                } catch (IOException e) {
+                    return false;
+                }
+            }
+
+            batch.update(id, link.buildRange(Section.CYCLES_TAB,
+                    "A", position, Section.CYCLES_END_COLUMN, position),
+                    link.buildRow(Arrays.asList(id,
+                            stats.getName(), stats.getNickname(),
+                            stats.getSetWins(), stats.getSetLosses(),
+                            setsPlayed, setWinrate,
+                            stats.getGamesWon(), stats.getGamesLost(),
+                            gamesPlayed, gameWinrate)),
+                    null);
+        }
+
+        return true;
+    }
+
+    /**
+     * Replaces the stored rows with the spreadsheet's, falling back to
+     * the cycle's journal if the spreadsheet cannot be read.
+     * @param interaction the user interaction calling this method.
+     */
+    private void importRows(GenericInteractionCreateEvent interaction)
+            throws IOException, GeneralSecurityException {
+        TreeMap<Object, Object> rows;
+        try {
+            GoogleSheetsAPI link = GoogleSheetsAPI.linkTo(spreadsheetID);
+            // the columns past lost games are derived from the others
+            rows = link.readSection(interaction, Section.CYCLES_TAB, "I");
+        } catch (IOException e) {
+            CycleJournal journal = CycleJournal.of(prefix);
+            if (!journal.coversCycle()) {
+                throw e;
+            }
+
+            LoggerFactory.getLogger(this.getClass()).error("The "
+                    + prefix.toUpperCase() + " leaderboard was rebuilt "
+                    + "from its journal.");
+            rows = journal.replay();
+        }
+
+        Map<String, List<String>> imports = new LinkedHashMap<>();
+        for (Map.Entry<Object, Object> row : rows.entrySet()) {
+            imports.put(row.getKey().toString(),
+                    toRow((PlayerStats) row.getValue()));
+        }
+        store.importAll(imports);
+
+        data = rows;
+        reimport = false;
+    }
+
+    /**
+     * Opens the leaderboard, importing it from the spreadsheet
+     * if it was never stored or a reload was asked for.
+     * @param interaction the user interaction calling this method.
+     */
+    private void load(GenericInteractionCreateEvent interaction)
+            throws IOException, GeneralSecurityException {
+        if (store == null) {
+            store = new LocalStore("leaderboard" + prefix.toUpperCase());
+            mirror = new SheetsMirror(store,
+                    GoogleSheetsAPI.linkTo(spreadsheetID),
+                    Leaderboard::queueRows, GoogleSheetsAPI.RAW,
+                    MIRROR_INTERVAL);
+        }
+
+        if (!store.isImported() || reimport) {
+            // reimporting drops every change the spreadsheet lacks
+            if (!mirror.flush()) {
+                throw new IOException("The " + prefix.toUpperCase()
+                        + " leaderboard has changes which could not be "
+                        + "mirrored, so it was not reimported.");
+            }
+            importRows(interaction);
+        } else if (data == null) {
+            data = readStore();
+        }
+    }
+
+    /**
+     * Reads the leaderboard's rows from the store.
+     * @return the rows, indexed by Discord ID.
+     */
+    private TreeMap<Object, Object> readStore() {
+        TreeMap<Object, Object> rows = new TreeMap<>();
+        for (Map.Entry<String, List<String>> row : store.getAll().entrySet()) {
+            rows.put(row.getKey(), fromRow(row.getValue()));
+        }
+
+        return rows;
+    }
+
+    /**
+     * Retrieves a snapshot of the leaderboard.
+     * @param interaction the user interaction calling this method.
+     * @return the leaderboard's rows, indexed by Discord ID.
+     */
+    public synchronized TreeMap<Object, Object> getData(
+            GenericInteractionCreateEvent interaction)
+            throws IOException, GeneralSecurityException {
+        load(interaction);
+        return new TreeMap<>(data);
+    }
+
+    /**
+     * Retrieves a player's stats from the leaderboard.
+     * @param interaction the user interaction calling this method.
+     * @param id the Discord ID of the player.
+     * @return the player's stats.
+     *         null if they are not on the leaderboard.
+     */
+    public synchronized PlayerStats getStats(
+            GenericInteractionCreateEvent interaction, String id)
+            throws IOException, GeneralSecurityException {
+        load(interaction);
+        return (PlayerStats) data.get(id);
+    }
+
+    /**
+     * Retrieves the row a newly added player will be written to.
+     * @return said row.
+     *         -1 if the leaderboard has not been loaded.
+     */
+    private int nextRow() {
+        if (data == null) {
+            return -1;
+        }
+
+        int lastRow = 1;
+        for (Object stats : data.values()) {
+            lastRow = Math.max(lastRow,
+                    ((PlayerStats) stats).getSpreadsheetPosition());
+        }
+
+        return lastRow + 1;
+    }
+
+    /**
+     * Applies changes to players' stats as one update, so reports
+     * made at the same time never overwrite each other.
+     * @param interaction the user interaction calling this method.
+     * @param deltas the changes to apply, combined per player.
+     * @return the applied changes, leaving out reverts of
+     *         players no longer on the leaderboard.
+     */
+    public synchronized List<CycleJournal.Change> apply(
+            GenericInteractionCreateEvent interaction, List<Delta> deltas)
+            throws IOException, GeneralSecurityException {
+        load(interaction);
+
+        Map<String, Delta> combined = new LinkedHashMap<>();
+        for (Delta delta : deltas) {
+            combined.merge(delta.playerID, delta, Delta::plus);
+        }
+
+        int newRow = nextRow();
+        List<CycleJournal.Change> changes = new ArrayList<>();
+        Map<String, List<String>> puts = new LinkedHashMap<>();
+        for (Delta delta : combined.values()) {
+            // the store holds each player's latest mirrored position
+            List<String> stored = store.get(delta.playerID);
+            PlayerStats before = stored == null ? null : fromRow(stored);
+            if (before == null && delta.name == null) {
+                continue;
+            }
+
+            PlayerStats after = delta.applyTo(before, newRow);
+            if (before == null) {
+                newRow++;
+            }
+
+            changes.add(new CycleJournal.Change(delta.playerID, before, after));
+            puts.put(delta.playerID, toRow(after));
+        }
+
+        store.write(puts, Collections.emptyList());
+        for (CycleJournal.Change change : changes) {
+            data.put(change.getPlayerID(), change.getAfter());
+        }
+
+        return changes;
+    }
+
+    /**
+     * Changes the cycle, then empties the leaderboard for the new
+     * cycle, whose spreadsheet tab starts out blank.
+     * @param interaction the user interaction calling this method.
+     * @param change the archival of the current cycle.
+     *
+     * Note: Every report waits for the change to finish, and the
+     *       mirror is paused throughout, as rows are written by
+     *       positions which the archival moves.
+     */
+    public synchronized void changeCycle(
+            GenericInteractionCreateEvent interaction, CycleChange change)
+            throws IOException, GeneralSecurityException {
+        load(interaction);
+
+        // the spreadsheet is sorted and archived, so it must
+        // hold every stored change first
+        if (!mirror.flush()) {
+            throw new IOException("The " + prefix.toUpperCase()
+                    + " leaderboard has changes which could not be mirrored.");
+        }
+        data = readStore();
+
+        mirror.pause();
+        try {
+            change.archive(new TreeMap<>(data));
+            store.importAll(new LinkedHashMap<>());
+            data = new TreeMap<>();
+        } catch (IOException | GeneralSecurityException
+                | RuntimeException e) {
+            reimport = true;
+            throw e;
+        } finally {
+            mirror.resume();
+        }
+    }
+
+    /**
+     * Forces the leaderboard to be imported from the spreadsheet
+     * again on its next use, after mirroring any pending changes.
+     */
+    public synchronized void invalidate() {
+        reimport = true;
+    }
+}
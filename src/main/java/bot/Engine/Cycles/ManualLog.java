@@ -2,19 +2,18 @@ package bot.Engine.Cycles;
 
 import bot.Engine.Section;
 import bot.Engine.Templates.Command;
-import bot.Tools.FileHandler;
-import bot.Tools.GoogleSheetsAPI;
 
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.events.interaction.GenericInteractionCreateEvent;
 import net.dv8tion.jda.api.events.interaction.SlashCommandEvent;
 import net.dv8tion.jda.api.interactions.commands.OptionMapping;
 
-import com.google.api.services.sheets.v4.model.ValueRange;
-
 import java.awt.Color;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Arrays;
+import java.util.Map;
 import java.util.TreeMap;
 import java.io.IOException;
 import java.security.GeneralSecurityException;
@@ -28,12 +27,16 @@ import java.security.GeneralSecurityException;
  */
 public class ManualLog extends Section implements Command {
 
+    /** The changes queued for the leaderboard, indexed by report key. */
+    private final Map<Integer, Leaderboard.Delta> pending;
+
     /**
      * Constructs the cycle log attributes.
      * @param abbreviation the abbreviation of the section.
      */
     public ManualLog(String abbreviation) {
         super(abbreviation);
+        pending = new LinkedHashMap<>();
     }
 
     /**
@@ -46,11 +49,11 @@ public class ManualLog extends Section implements Command {
     }
 
     /**
-     * Saves a cycle command to an undo file.
+     * Describes a cycle command, for the journal.
      * @param cmd the formal name of the command.
      * @param args the arguments of the command.
      */
-    private void saveCycleCall(String cmd, List<OptionMapping> args) {
+    private String describeCall(String cmd, List<OptionMapping> args) {
         List<OptionMapping> userArgs = args.subList(2, args.size());
         StringBuilder contents = new StringBuilder();
         int lastIndex = userArgs.size() - 1;
@@ -63,9 +66,7 @@ public class ManualLog extends Section implements Command {
         }
         contents.append(mentionableFor(userArgs.get(lastIndex)));
 
-        FileHandler save = new FileHandler(
-                "load" + getPrefix().toUpperCase() + ".txt");
-        save.writeContents(contents.toString());
+        return contents.toString();
     }
 
     /**
@@ -171,112 +172,96 @@ public class ManualLog extends Section implements Command {
     }
 
     /**
-     * Updates a user's stats within a spreadsheet.
+     * Queues a change to a user's stats within the leaderboard.
      * @param cmd the formal name of the command.
      * @param gamesPlayed the total games played.
      * @param gameWins the total games won.
      * @param user the player to update the stats of.
-     * @param link a connection to the spreadsheet.
-     * @param stats the stats of the player.
-     * @return 0 if the player could be found in the spreadsheet.
+     * @param key the key to report the change under, if it fails.
+     * @return 0 if the change was queued.
      *         1 otherwise.
+     *
+     * Note: New users will be added at the next EMPTY row in the spreadsheet.
      */
-    public int updateUser(String cmd, int gamesPlayed, int gameWins,
-                          Member user, GoogleSheetsAPI link,
-                          PlayerStats stats) {
-        try {
-            int gameLosses = gamesPlayed - gameWins;
-
-            int setWins = stats.getSetWins();
-            int setLosses = stats.getSetLosses();
-            int setsPlayed = setWins + setLosses;
-            double setWinrate = 0.0;
-            if (notSub(cmd) && gamesPlayed > 0) {
-                if (cycleSetWon(gameWins, gamesPlayed)) {
-                    setWins++;
-                } else {
-                    setLosses++;
-                }
-
-                setsPlayed++;
-            }
-            if (setsPlayed > 0) {
-                setWinrate = (double) setWins / setsPlayed;
-            }
+    public int queueUser(String cmd, int gamesPlayed, int gameWins,
+                         Member user, int key) {
+        if (user == null) {
+            log(getPrefix().toUpperCase() + " cycle user "
+                    + "could not be found.", true);
+            return 1;
+        }
 
-            gameWins += stats.getGamesWon();
-            gameLosses += stats.getGamesLost();
-            gamesPlayed = gameWins + gameLosses;
-            double gameWinrate = 0.0;
-            if (gamesPlayed > 0) {
-                gameWinrate =  (double) gameWins / gamesPlayed;
+        int setWins = 0;
+        int setLosses = 0;
+        if (notSub(cmd) && gamesPlayed > 0) {
+            if (cycleSetWon(gameWins, gamesPlayed)) {
+                setWins++;
+            } else {
+                setLosses++;
             }
-
-            String updateRange = link.buildRange(CYCLES_TAB,
-                    CYCLES_START_COLUMN, stats.getSpreadsheetPosition(),
-                    CYCLES_END_COLUMN, stats.getSpreadsheetPosition());
-            ValueRange newRow = link.buildRow(Arrays.asList(
-                    user.getUser().getAsTag(), user.getEffectiveName(),
-                    setWins, setLosses, setsPlayed, setWinrate,
-                    gameWins, gameLosses, gamesPlayed, gameWinrate));
-            link.updateRange(updateRange, newRow);
-
-            return 0;
-        } catch (IOException e) {
-            log("Existing " + getPrefix().toUpperCase() + " cycle user error "
-                    + "occurred with " + user.getUser().getAsMention() + ".", true);
-            return 1;
         }
+
+        pending.put(key, new Leaderboard.Delta(user.getId(),
+                user.getUser().getAsTag(), user.getEffectiveName(),
+                setWins, setLosses, gameWins, gamesPlayed - gameWins));
+        return 0;
     }
 
     /**
-     * Adds a user's stats within a spreadsheet.
-     * @param cmd the formal name of the command.
-     * @param gamesPlayed the total games played.
-     * @param gameWins the total games won.
-     * @param user the player to update the stats of.
-     * @param link a connection to the spreadsheet.
-     * @return 0 if the player could be found in the spreadsheet.
-     *         1 otherwise.
+     * Applies the queued changes to the leaderboard at once, then
+     * journals them.
+     * @param interaction the user interaction calling this method.
+     * @param errorsFound array of errors found for each player, if any
+     *                    (0 if no errors occurred, 1 otherwise),
+     *                    indexed by the key of each change.
+     * @param summary a description of the report, for the journal.
      *
-     * Note: Users will be added at the next EMPTY row in the spreadsheet.
+     * Note: A report which cannot be journaled is taken back, as
+     *       it could never be undone.
      */
-    public int addUser(String cmd, int gamesPlayed, int gameWins,
-                       Member user, GoogleSheetsAPI link) {
-        try {
-            int gameLosses = gamesPlayed - gameWins;
-            double gameWinrate = 0.0;
-            if (gamesPlayed > 0) {
-                gameWinrate =  (double) gameWins / gamesPlayed;
-            }
+    public void saveUsers(GenericInteractionCreateEvent interaction,
+                          int[] errorsFound, String summary) {
+        if (pending.isEmpty()) {
+            return;
+        }
 
-            int setWins = 0;
-            int setLosses = 0;
-            int setsPlayed = 0;
-            double setWinrate = 0.0;
-            if (notSub(cmd) && gamesPlayed > 0) {
-                if (cycleSetWon(gameWins, gamesPlayed)) {
-                    setWins++;
-                } else {
-                    setLosses++;
+        Leaderboard leaderboard = Leaderboard.of(getPrefix());
+        try {
+            // no undo may land between applying and journaling
+            synchronized (leaderboard) {
+                List<CycleJournal.Change> changes = leaderboard.apply(
+                        interaction, new ArrayList<>(pending.values()));
+                try {
+                    CycleJournal.of(getPrefix()).recordReport(summary, changes);
+                } catch (IOException e) {
+                    takeBack(interaction, changes);
+                    throw e;
                 }
-
-                setsPlayed = 1;
-                setWinrate = (double) setWins / setsPlayed;
             }
+        } catch (IOException | GeneralSecurityException e) {
+            for (int key : pending.keySet()) {
+                errorsFound[key] = 1;
+            }
+            log("The " + getPrefix().toUpperCase()
+                    + " report could not be saved.", true);
+        }
+        pending.clear();
+    }
 
-            ValueRange newRow = link.buildRow(Arrays.asList(
-                    user.getId(), user.getUser().getAsTag(), user.getEffectiveName(),
-                    setWins, setLosses, setsPlayed, setWinrate,
-                    gameWins, gameLosses, gamesPlayed, gameWinrate));
-            link.appendRow(CYCLES_TAB, newRow);
-
-            return 0;
-        } catch (IOException e) {
-            log("New " + getPrefix().toUpperCase() + " cycle user error "
-                    + "occurred with " + user.getUser().getAsMention() + ".", true);
-            return 1;
+    /**
+     * Takes back changes which could not be journaled.
+     * @param interaction the user interaction calling this method.
+     * @param changes the changes to take back.
+     */
+    public void takeBack(GenericInteractionCreateEvent interaction,
+                         List<CycleJournal.Change> changes)
+            throws IOException, GeneralSecurityException {
+        List<Leaderboard.Delta> reversals = new ArrayList<>();
+        for (CycleJournal.Change change : changes) {
+            reversals.add(change.reversal());
         }
+
+        Leaderboard.of(getPrefix()).apply(interaction, reversals);
     }
 
     /**
@@ -285,14 +270,12 @@ public class ManualLog extends Section implements Command {
      */
     @Override
     public void runCmd(SlashCommandEvent sc) {
-        sc.deferReply(false).queue();
-
         String cmd = sc.getSubcommandName();
         List<OptionMapping> args = sc.getOptions();
 
         try {
-            GoogleSheetsAPI link = new GoogleSheetsAPI(cyclesSheetID());
-            TreeMap<Object, Object> data = link.readSection(sc, CYCLES_TAB);
+            TreeMap<Object, Object> data =
+                    Leaderboard.of(getPrefix()).getData(sc);
 
             List<OptionMapping> userArgs = extractUsers(sc);
             int numUsers = userArgs.size();
@@ -300,19 +283,11 @@ public class ManualLog extends Section implements Command {
             int[] errorsFound = new int[numUsers];
             for (int i = 0; i < numUsers; i++) {
                 Member user = userArgs.get(i).getAsMember();
-                if (data.containsKey(user.getId())) {
-                    PlayerStats stats = (PlayerStats) data.get(user.getId());
-                    errorsFound[i] = updateUser(
-                            cmd, getGamesPlayed(args), getGamesWon(args),
-                            user, link, stats);
-                    playerTypes[i] = 0;
-                } else {
-                    errorsFound[i] = addUser(
-                            cmd, getGamesPlayed(args), getGamesWon(args),
-                            user, link);
-                    playerTypes[i] = 1;
-                }
+                errorsFound[i] = queueUser(cmd, getGamesPlayed(args),
+                        getGamesWon(args), user, i);
+                playerTypes[i] = data.containsKey(user.getId()) ? 0 : 1;
             }
+            saveUsers(sc, errorsFound, describeCall(cmd, args));
 
             sendReport(sc, userArgs, playerTypes, errorsFound);
             log(userArgs.size() + " " + getPrefix().toUpperCase() + " "
@@ -323,7 +298,5 @@ public class ManualLog extends Section implements Command {
             log("The " + getSection()
                     + " cycles spreadsheet could not load.", true);
         }
-
-        saveCycleCall(cmd, args);
     }
 }
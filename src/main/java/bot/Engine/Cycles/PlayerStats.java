@@ -51,18 +51,55 @@ public class PlayerStats {
             name = row.get(0).toString();
             nickname = row.get(1).toString();
             if (row.size() > 2) {
-                setWins = Integer.parseInt(row.get(2).toString());
-                setLosses = Integer.parseInt(row.get(3).toString());
-                gamesWon = Integer.parseInt(row.get(6).toString());
-                gamesLost = Integer.parseInt(row.get(7).toString());
+                setWins = toInt(row.get(2));
+                setLosses = toInt(row.get(3));
+                gamesWon = toInt(row.get(6));
+                gamesLost = toInt(row.get(7));
             }
         } catch (IndexOutOfBoundsException | NumberFormatException e) {
             Logger logger = LoggerFactory.getLogger(this.getClass());
             logger.error("Spreadsheet formatting problem detected.");
-            interaction.getHook().sendMessage(
-                    "***There seems to be a formatting problem within the "
-                            + "spreadsheet.*** Please fix it!").queue();
+            if (interaction != null) {
+                interaction.getHook().sendMessage(
+                        "***There seems to be a formatting problem within the "
+                                + "spreadsheet.*** Please fix it!").queue();
+            }
+        }
+    }
+
+    /**
+     * Reads a whole number from a spreadsheet cell, which arrives
+     * as a number when unformatted.
+     * @param cell the cell to read.
+     */
+    private static int toInt(Object cell) {
+        if (cell instanceof Number) {
+            return ((Number) cell).intValue();
         }
+
+        return Integer.parseInt(cell.toString());
+    }
+
+    /**
+     * Construct the object from already known stats.
+     * @param pos the row of the player within the cycle spreadsheet.
+     * @param formalName the formal name of the player.
+     * @param nick the nickname of the player within the server.
+     * @param wonSets the amount of won sets.
+     * @param lostSets the amount of lost sets.
+     * @param wonGames the amount of won matches.
+     * @param lostGames the amount of lost matches.
+     */
+    public PlayerStats(int pos, String formalName, String nick,
+                       int wonSets, int lostSets,
+                       int wonGames, int lostGames) {
+        numRow = pos;
+        name = formalName;
+        nickname = nick;
+        setWins = wonSets;
+        setLosses = lostSets;
+        gamesWon = wonGames;
+        gamesLost = lostGames;
     }
 
     /**
@@ -13,6 +13,7 @@ import java.security.GeneralSecurityException;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Map;
 import java.util.TreeMap;
 
@@ -29,12 +30,6 @@ public class PointsCalculator extends Section implements Command {
     /** Minimum number of sets to play for points. */
     private final static int MINIMUM_SETS = 0;
 
-    /** Max score per category. */
-    private final static int MAX_CATGEORY_POINTS = 10;
-
-    /** Number of score categories to calculate. */
-    private final static int NUM_TOTAL_SCORES = 5;
-
     /** Beginning lettered column of the score columns. */
     private final static char SCORE_COLUMNS_START = 'L';
 
@@ -46,14 +41,6 @@ public class PointsCalculator extends Section implements Command {
         super(abbreviation);
     }
 
-    /**
-     * Converts character-formatted column to its integer format.
-     * @param column the column to format.
-     */
-    private int columnToInt(String column) {
-        return column.charAt(0) - 'A';
-    }
-
     /**
      * Converts an integer-formatted column to its character format.
      * @param column the column to format.
@@ -63,21 +50,12 @@ public class PointsCalculator extends Section implements Command {
         return String.valueOf(c);
     }
 
-    /** Retrieves a list of the lettered points columns. */
-    private List<String> getPointsColumns() {
-        List<String> pointsColumns = new ArrayList<>(NUM_TOTAL_SCORES);
-        for (int i = 0; i < NUM_TOTAL_SCORES; i++) {
-            pointsColumns.add(intToColumn(SCORE_COLUMNS_START + i));
-        }
-
-        return pointsColumns;
-    }
-
     /**
      * Updates the public leaderboard with points for each player.
      * @param sc the user's inputted commands.
      * @param scores the scores which were found during the
      *               points calculation.
+     * @param data the leaderboard's rows, indexed by Discord ID.
      * @param tab the name of the spreadsheet tab to edit.
      * @param link a connection to the leaderboard spreadsheet.
      * @return True if leaderboard update ran without error.
@@ -85,26 +63,37 @@ public class PointsCalculator extends Section implements Command {
      */
     private boolean updateLeaderboardUnsuccessful(SlashCommandEvent sc,
                                    TreeMap<Object, Integer> scores,
+                                   TreeMap<Object, Object> data,
                                    String tab, GoogleSheetsAPI link) {
         try {
             editMessage(sc, "Updating leaderboard...");
 
-            List<List<Object>> table = link.getSheetValues(tab);
-            table.remove(0);
-            List<Object> pointsPerPlayer = new ArrayList<>(table.size());
+            int lastRow = 1;
+            for (Object stats : data.values()) {
+                lastRow = Math.max(lastRow,
+                        ((PlayerStats) stats).getSpreadsheetPosition());
+            }
+
+            int numRows = lastRow - 1;
+            if (numRows == 0) {
+                return false;
+            }
 
-            for (List<Object> row : table) {
-                Object playerID = row.get(0);
-                pointsPerPlayer.add(scores.getOrDefault(playerID, 0));
+            List<Object> pointsPerPlayer =
+                    new ArrayList<>(Collections.nCopies(numRows, 0));
+            for (Map.Entry<Object, Object> mapping : data.entrySet()) {
+                PlayerStats stats = (PlayerStats) mapping.getValue();
+                pointsPerPlayer.set(stats.getSpreadsheetPosition() - 2,
+                        scores.getOrDefault(mapping.getKey(), 0));
             }
 
             String updateRange = link.buildRange(tab,
                     String.valueOf(SCORE_COLUMNS_START), 2,
-                    String.valueOf(SCORE_COLUMNS_START), 2 + (table.size() - 1));
+                    String.valueOf(SCORE_COLUMNS_START), 2 + (numRows - 1));
             ValueRange newColumn = link.buildColumn(pointsPerPlayer);
             link.updateRange(updateRange, newColumn);
 
-            link.sortByDescending(tab, String.valueOf(SCORE_COLUMNS_START), table.size());
+            link.sortByDescending(tab, String.valueOf(SCORE_COLUMNS_START), numRows);
             return false;
         } catch (IOException e) {
             editMessage(sc, "An error occurred while updating the leaderboard.");
@@ -129,60 +118,26 @@ public class PointsCalculator extends Section implements Command {
      * Calculates the Top 10 players of the leaderboard.
      * @param sc the user's inputted command.
      * @param section the designated MIT section for this Top 10.
-     * @param size the amount of players eligible
-     * @param tab the name of the spreadsheet tab to edit.
-     * @param link a connection to the leaderboard spreadsheet.
+     * @param table the calculated points of the eligible players.
      * @return a map of final scores for all players who were eligible,
      *         for the Top 10.
-     *         null if an error occurred.
      */
     public TreeMap<Object, Integer> findTopTen(SlashCommandEvent sc,
-                                               String section, int size,
-                                               String tab, GoogleSheetsAPI link) {
+                                               String section,
+                                               PointsTable table) {
         StringBuilder topTen = new StringBuilder();
         TreeMap<Object, Integer> finalScores = new TreeMap<>();
 
-        String totalColumn = intToColumn(SCORE_COLUMNS_START + NUM_TOTAL_SCORES);
-        int numTotalColumn = columnToInt(totalColumn);
-
-        try {
-            link.sortByDescending(tab, totalColumn, size);
-            editMessage(sc, "Calculating Top 10...");
-
-            int placing, offset;
-            placing = offset = 1;
-
-            int lastScore = -1;
-
-            List<List<Object>> table = link.getSheetValues(tab);
-            table.remove(0);
-
-            for (List<Object> row : table) {
-                Object id = row.get(0);
-                String playerTag = String.valueOf(row.get(1));
-                int currScore =
-                        Integer.parseInt(row.get(numTotalColumn).toString());
-
-                if (lastScore == -1) {
-                    lastScore = currScore;
-                    topTen.append(placement(playerTag, placing));
-                } else if (currScore == lastScore) {
-                    offset++;
-                    topTen.append(placement(playerTag, placing));
-                } else if (placing + offset <= 10) {
-                    lastScore = currScore;
-                    placing += offset;
-                    offset = 1;
-
-                    topTen.append(placement(playerTag, placing));
-                }
+        editMessage(sc, "Calculating Top 10...");
 
-                finalScores.put(id, currScore);
+        List<Integer> placings = table.getPlacings();
+        for (int i = 0; i < table.size(); i++) {
+            if (placings.get(i) > 0) {
+                topTen.append(placement(
+                        table.getStats(i).getName(), placings.get(i)));
             }
-        } catch (IOException e) {
-            editMessage(sc, "An error occurred while calculating the Top 10 players.");
-            log("An error occurred with the Top 10 calculation.", true);
-            return null;
+
+            finalScores.put(table.getID(i), table.getTotal(i));
         }
 
         String output = "Top 10 for " + section + ":\n```"
@@ -192,63 +147,35 @@ public class PointsCalculator extends Section implements Command {
     }
 
     /**
-     * Calculates the final leaderboard scores.
+     * Writes the final leaderboard scores.
      * @param sc the user's inputted command.
-     * @param size the amount of players eligible
+     * @param table the calculated points of the eligible players.
      * @param tab the name of the spreadsheet tab to edit.
-     * @param link a connection to the leaderboard spreadsheet.
+     * @param link a connection to the points spreadsheet.
      * @return True if the points calculation ran without error.
      *         False otherwise.
      */
-    public boolean calculatePointsUnsuccessful(SlashCommandEvent sc, int size,
-                                String tab, GoogleSheetsAPI link) {
-        List<String> scoreColumns = new ArrayList<>(
-                Arrays.asList("D", "F", "G", "H", "K"));
-        List<String> pointsColumns = getPointsColumns();
-        List<Object> pointsPerPlayer = new ArrayList<>(size);
+    public boolean calculatePointsUnsuccessful(SlashCommandEvent sc,
+                                               PointsTable table,
+                                               String tab, GoogleSheetsAPI link) {
+        if (table.size() == 0) {
+            return false;
+        }
 
         try {
-            for (String column : pointsColumns) {
-                editMessage(sc, "Calculating points for column "
-                        + column + "...");
-
-                int points = MAX_CATGEORY_POINTS;
-                double lastVal = -1.0;
-
-                String currScoreColumn = scoreColumns.remove(0);
-                int numScoreCol = columnToInt(currScoreColumn);
-                link.sortByDescending(tab, currScoreColumn, size);
-
-                pointsPerPlayer.clear();
-
-                List<List<Object>> table = link.getSheetValues(tab);
-                table.remove(0);
-
-                for (List<Object> row : table) {
-                    double currVal = Double.parseDouble(
-                            row.get(numScoreCol).toString());
-                    if (lastVal == -1.0) {
-                        lastVal = currVal;
-                    } else if (currVal == 0.0) {
-                        points = 0;
-                    } else if (currVal < lastVal && points > 0) {
-                        lastVal = currVal;
-                        points--;
-                    }
-
-                    pointsPerPlayer.add(points);
-                }
-
-                String updateRange = link.buildRange(tab,
-                        column, 2,
-                        column, 2 + (size - 1));
-                ValueRange newColumn = link.buildColumn(pointsPerPlayer);
-                link.updateRange(updateRange, newColumn);
+            editMessage(sc, "Calculating points...");
 
-                wait(5000);
+            List<List<Object>> pointsPerPlayer = new ArrayList<>(table.size());
+            for (int i = 0; i < table.size(); i++) {
+                pointsPerPlayer.add(table.getPoints(i));
             }
 
-            wait(5000);
+            String updateRange = link.buildRange(tab,
+                    String.valueOf(SCORE_COLUMNS_START), 2,
+                    intToColumn(SCORE_COLUMNS_START + PointsTable.NUM_CATEGORIES),
+                    2 + (table.size() - 1));
+            link.updateRange(updateRange,
+                    new ValueRange().setValues(pointsPerPlayer));
             return false;
         } catch (IOException e) {
             editMessage(sc, "An error occurred while calculating points.");
@@ -262,53 +189,51 @@ public class PointsCalculator extends Section implements Command {
      * Initializes the Points Calculation spreadsheet.
      * @param sc the user's inputted command.
      * @param tab the name of the spreadsheet tab to edit.
-     * @param fromLink a connection to the leaderboard spreadsheet.
+     * @param table the calculated points of the eligible players.
      * @param toLink a connection to the points spreadsheet.
      * @return the amount of players eligible for points.
      *         -1 if an error occurred.
      */
     public int initializeCopy(SlashCommandEvent sc, String tab,
-                               GoogleSheetsAPI fromLink, GoogleSheetsAPI toLink) {
-        try {
-            TreeMap<Object, Object> data = fromLink.readSection(sc, tab);
+                               PointsTable table, GoogleSheetsAPI toLink) {
+        int size = table.size();
+        if (size == 0) {
+            return 0;
+        }
 
-            int size = 0;
-            for (Map.Entry<Object, Object> mapping : data.entrySet()) {
-                PlayerStats player = (PlayerStats) mapping.getValue();
+        List<List<Object>> rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            PlayerStats player = table.getStats(i);
 
-                int setWins = player.getSetWins();
-                int setLosses = player.getSetLosses();
-                int setsPlayed = setWins + setLosses;
-                if (setsPlayed < MINIMUM_SETS) {
-                    continue;
-                }
+            int setWins = player.getSetWins();
+            int setLosses = player.getSetLosses();
+            int setsPlayed = setWins + setLosses;
+            double setWinrate = 0.0;
+            if (setsPlayed > 0) {
+                setWinrate = (double) setWins / setsPlayed;
+            }
 
-                double setWinrate = 0.0;
-                if (setsPlayed > 0) {
-                    setWinrate = (double) setWins / setsPlayed;
-                }
+            int gameWins = player.getGamesWon();
+            int gameLosses = player.getGamesLost();
+            int gamesPlayed = gameWins + gameLosses;
+            double gameWinrate = 0.0;
+            if (gamesPlayed > 0) {
+                gameWinrate =  (double) gameWins / gamesPlayed;
+            }
 
-                int gameWins = player.getGamesWon();
-                int gameLosses = player.getGamesLost();
-                int gamesPlayed = gameWins + gameLosses;
-                double gameWinrate = 0.0;
-                if (gamesPlayed > 0) {
-                    gameWinrate =  (double) gameWins / gamesPlayed;
-                }
+            rows.add(Arrays.asList(
+                    table.getID(i), player.getName(), player.getNickname(),
+                    setWins, setLosses, setsPlayed, setWinrate,
+                    gameWins, gameLosses, gamesPlayed, gameWinrate));
+        }
 
-                String updateRange = toLink.buildRange(tab,
-                        "A", size + 2,
-                        intToColumn(SCORE_COLUMNS_START - 1), size + 2);
-                ValueRange newRow = fromLink.buildRow(Arrays.asList(
-                        mapping.getKey(), player.getName(), player.getNickname(),
-                        setWins, setLosses, setsPlayed, setWinrate,
-                        gameWins, gameLosses, gamesPlayed, gameWinrate));
-                toLink.updateRange(updateRange, newRow);
-                size++;
-                wait(2500);
-            }
+        try {
+            String updateRange = toLink.buildRange(tab,
+                    "A", 2,
+                    intToColumn(SCORE_COLUMNS_START - 1), 2 + (size - 1));
+            toLink.updateRange(updateRange,
+                    new ValueRange().setValues(rows));
 
-            editMessage(sc, "Calculating points...");
             return size;
         } catch (IOException e) {
             editMessage(sc, "An error occurred while copying over the "
@@ -324,58 +249,59 @@ public class PointsCalculator extends Section implements Command {
      */
     @Override
     public void runCmd(SlashCommandEvent sc) {
-        sc.deferReply(false).queue();
-
         // tab names of the spreadsheets
         String currentTab = CYCLES_TAB;
         String previousTab = "Previous Cycle";
         String templateTab = "Blank";
 
         try {
-            GoogleSheetsAPI leaderboard = new GoogleSheetsAPI(cyclesSheetID());
-            GoogleSheetsAPI points = new GoogleSheetsAPI(calculationsSheetID());
+            GoogleSheetsAPI leaderboard =
+                    GoogleSheetsAPI.linkTo(cyclesSheetID()).inBackground();
+            GoogleSheetsAPI points =
+                    GoogleSheetsAPI.linkTo(calculationsSheetID()).inBackground();
 
             points.duplicateTab(templateTab, currentTab);
-
-            wait(10000);
             editMessage(sc, "Copying " + getSection() + " spreadsheet...");
 
-            log("(Cycle Change) A leaderboard is being copied to the "
-                    + getSection() + " points spreadsheet.", false);
-            int totalPlayers = initializeCopy(
-                    sc, currentTab, leaderboard, points);
-            if (totalPlayers == -1) {
-                throw new IOException();
-            }
+            // reports wait until the old cycle is archived
+            Leaderboard.of(getPrefix()).changeCycle(sc, data -> {
+                PointsTable table = new PointsTable(data, MINIMUM_SETS);
 
-            log("(Cycle Change) Points are being calculated...", false);
-            if (calculatePointsUnsuccessful(sc, totalPlayers, currentTab, points)) {
-                throw new IOException();
-            }
+                log("(Cycle Change) A leaderboard is being copied to the "
+                        + getSection() + " points spreadsheet.", false);
+                int totalPlayers =
+                        initializeCopy(sc, currentTab, table, points);
+                if (totalPlayers == -1) {
+                    throw new IOException();
+                }
 
-            log("(Cycle Change) Retrieving Top 10 players...", false);
-            TreeMap<Object, Integer> scores =
-                    findTopTen(sc, getSection(), totalPlayers, currentTab, points);
-            if (scores == null) {
-                throw new IOException();
-            }
+                log("(Cycle Change) Points are being calculated...", false);
+                if (calculatePointsUnsuccessful(sc, table, currentTab, points)) {
+                    throw new IOException();
+                }
 
-            log("(Cycle Change) Updating public leaderboard...", false);
-            if (updateLeaderboardUnsuccessful(sc, scores, currentTab, leaderboard)) {
-                throw new IOException();
-            }
+                log("(Cycle Change) Retrieving Top 10 players...", false);
+                TreeMap<Object, Integer> scores =
+                        findTopTen(sc, getSection(), table);
 
-            // update the points spreadsheet up to the previous cycle
-            points.renameTab(previousTab, "2 Cycles Ago");
-            points.renameTab(currentTab, previousTab);
+                log("(Cycle Change) Updating public leaderboard...", false);
+                if (updateLeaderboardUnsuccessful(
+                        sc, scores, data, currentTab, leaderboard)) {
+                    throw new IOException();
+                }
 
-            // update the leaderboard spreadsheet up to the new cycle
-            leaderboard.renameTab(currentTab, previousTab);
-            leaderboard.duplicateTab(templateTab, currentTab);
+                // update the points spreadsheet up to the previous cycle
+                points.renameTab(previousTab, "2 Cycles Ago");
+                points.renameTab(currentTab, previousTab);
 
-            log("(Cycle Change) Top 10 for " + getSection() + " completed.", false);
-            wait(2000);
+                // update the leaderboard spreadsheet up to the new cycle
+                leaderboard.renameTab(currentTab, previousTab);
+                leaderboard.duplicateTab(templateTab, currentTab);
+                CycleJournal.of(getPrefix()).rotate(
+                        String.valueOf(System.currentTimeMillis()));
+            });
 
+            log("(Cycle Change) Top 10 for " + getSection() + " completed.", false);
             editMessage(sc, "Here are your " + getSection() + " Cycle Top 10s!");
             log("Cycle change has been completed.", false);
         } catch (GeneralSecurityException | IOException e) {
@@ -0,0 +1,224 @@
+package bot.Engine.Cycles;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * @author  Wil Aquino
+ * Date:    October 17, 2026
+ * Project: Libra
+ * Module:  PointsTable.java
+ * Purpose: Calculates the points of a Cycle's players in memory,
+ *          ordered by their final standings.
+ */
+public class PointsTable {
+
+    /** Max score per category. */
+    public final static int MAX_CATEGORY_POINTS = 10;
+
+    /** Number of score categories to calculate. */
+    public final static int NUM_CATEGORIES = 5;
+
+    /** Number of placings to award within the Top 10. */
+    private final static int NUM_PLACINGS = 10;
+
+    /** The Discord IDs of the eligible players, by standing. */
+    private final List<Object> ids;
+
+    /** The stats of the eligible players, by standing. */
+    private final List<PlayerStats> players;
+
+    /** The points of each player, per category and then in total. */
+    private final int[][] points;
+
+    /**
+     * Calculates the points of every eligible player.
+     * @param data the leaderboard's rows, indexed by Discord ID.
+     * @param minimumSets the minimum number of sets to play for points.
+     */
+    public PointsTable(TreeMap<Object, Object> data, int minimumSets) {
+        List<Object> eligibleIDs = new ArrayList<>(data.size());
+        List<PlayerStats> eligible = new ArrayList<>(data.size());
+        for (Map.Entry<Object, Object> mapping : data.entrySet()) {
+            PlayerStats player = (PlayerStats) mapping.getValue();
+            if (player.getSetWins() + player.getSetLosses() >= minimumSets) {
+                eligibleIDs.add(mapping.getKey());
+                eligible.add(player);
+            }
+        }
+
+        int size = eligible.size();
+        int[][] scores = new int[size][NUM_CATEGORIES + 1];
+        for (int category = 0; category < NUM_CATEGORIES; category++) {
+            double[] values = new double[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = categoryValue(eligible.get(i), category);
+            }
+
+            int[] tiers = rankPoints(values);
+            for (int i = 0; i < size; i++) {
+                scores[i][category] = tiers[i];
+                scores[i][NUM_CATEGORIES] += tiers[i];
+            }
+        }
+
+        List<Integer> order = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            order.add(i);
+        }
+        order.sort((a, b) -> {
+            int byTotal = Integer.compare(
+                    scores[b][NUM_CATEGORIES], scores[a][NUM_CATEGORIES]);
+            if (byTotal != 0) {
+                return byTotal;
+            }
+
+            return String.valueOf(eligible.get(a).getName())
+                    .compareToIgnoreCase(String.valueOf(eligible.get(b).getName()));
+        });
+
+        ids = new ArrayList<>(size);
+        players = new ArrayList<>(size);
+        points = new int[size][];
+        for (int i = 0; i < size; i++) {
+            int index = order.get(i);
+            ids.add(eligibleIDs.get(index));
+            players.add(eligible.get(index));
+            points[i] = scores[index];
+        }
+    }
+
+    /**
+     * Retrieves a player's value for a score category.
+     * @param player the stats of the player.
+     * @param category the category, in order of set wins, sets played,
+     *                 set winrate, game wins and game winrate.
+     */
+    private static double categoryValue(PlayerStats player, int category) {
+        int setWins = player.getSetWins();
+        int setsPlayed = setWins + player.getSetLosses();
+        int gameWins = player.getGamesWon();
+        int gamesPlayed = gameWins + player.getGamesLost();
+
+        switch (category) {
+            case 0:
+                return setWins;
+            case 1:
+                return setsPlayed;
+            case 2:
+                return setsPlayed > 0 ? (double) setWins / setsPlayed : 0.0;
+            case 3:
+                return gameWins;
+            default:
+                return gamesPlayed > 0 ? (double) gameWins / gamesPlayed : 0.0;
+        }
+    }
+
+    /**
+     * Awards points by dense rank, where the highest value earns the
+     * max points and each lower distinct value earns one point less.
+     * @param values the values of a score category.
+     * @return the points earned for each value.
+     *
+     * Note: A value of zero never earns points.
+     */
+    public static int[] rankPoints(double[] values) {
+        double[] distinct = Arrays.stream(values).distinct().toArray();
+        Arrays.sort(distinct);
+
+        int[] tiers = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] > 0.0) {
+                int rank = distinct.length - 1
+                        - Arrays.binarySearch(distinct, values[i]);
+                tiers[i] = Math.max(0, MAX_CATEGORY_POINTS - rank);
+            }
+        }
+
+        return tiers;
+    }
+
+    /** Retrieves the number of eligible players. */
+    public int size() {
+        return ids.size();
+    }
+
+    /**
+     * Retrieves the Discord ID of a player.
+     * @param standing the player's standing, starting from 0.
+     */
+    public Object getID(int standing) {
+        return ids.get(standing);
+    }
+
+    /**
+     * Retrieves the stats of a player.
+     * @param standing the player's standing, starting from 0.
+     */
+    public PlayerStats getStats(int standing) {
+        return players.get(standing);
+    }
+
+    /**
+     * Retrieves the points of a player.
+     * @param standing the player's standing, starting from 0.
+     * @return the points per category, followed by the total.
+     */
+    public List<Object> getPoints(int standing) {
+        List<Object> row = new ArrayList<>(NUM_CATEGORIES + 1);
+        for (int score : points[standing]) {
+            row.add(score);
+        }
+
+        return row;
+    }
+
+    /**
+     * Retrieves the total points of a player.
+     * @param standing the player's standing, starting from 0.
+     */
+    public int getTotal(int standing) {
+        return points[standing][NUM_CATEGORIES];
+    }
+
+    /**
+     * Retrieves the Top 10 placings, where tied players share a
+     * placing and the placings after them are skipped.
+     * @return the placing of each player by standing.
+     *         0 for players outside the Top 10.
+     */
+    public List<Integer> getPlacings() {
+        if (size() == 0) {
+            return Collections.emptyList();
+        }
+
+        List<Integer> placings = new ArrayList<>(size());
+        placings.add(1);
+
+        int placing, offset;
+        placing = offset = 1;
+
+        int lastScore = getTotal(0);
+        for (int i = 1; i < size(); i++) {
+            int currScore = getTotal(i);
+            if (currScore == lastScore) {
+                offset++;
+                placings.add(placing);
+            } else if (placing + offset <= NUM_PLACINGS) {
+                lastScore = currScore;
+                placing += offset;
+                offset = 1;
+
+                placings.add(placing);
+            } else {
+                placings.add(0);
+            }
+        }
+
+        return placings;
+    }
+}
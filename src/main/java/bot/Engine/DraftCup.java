@@ -25,8 +25,6 @@ public class DraftCup implements Command {
      * @param args the arguments of the command.
      */
     private void lookup(SlashCommandEvent sc, List<OptionMapping> args) {
-        sc.deferReply(false).queue();
-
         List<String> playerIDs = new ArrayList<>();
         for (OptionMapping om : args) {
             playerIDs.add(om.getAsMember().getId());
@@ -0,0 +1,185 @@
+package bot.Engine.Games;
+
+import bot.Engine.Templates.GameReqs;
+import bot.Tools.ComponentID;
+import bot.Tools.Components;
+import bot.Tools.Dispatcher;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntFunction;
+
+/**
+ * @author  Wil Aquino
+ * Date:    October 17, 2026
+ * Project: Libra
+ * Module:  DraftRegistry.java
+ * Purpose: Keeps track of a section's numbered drafts, safely
+ *          across threads.
+ */
+public class DraftRegistry {
+
+    /** The timer which expires draft requests, shared by every section. */
+    private static final ScheduledExecutorService EXPIRY =
+            Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread timer = new Thread(task, "libra-draft-expiry");
+                timer.setDaemon(true);
+                return timer;
+            });
+
+    /** The dispatcher which orders the interactions of each draft. */
+    private final Dispatcher dispatcher;
+
+    /** The uppercase prefix of the section, as used in button suffixes. */
+    private final String suffixPrefix;
+
+    /** The ongoing drafts, indexed by draft number. */
+    private final Map<Integer, GameReqs> drafts;
+
+    /** The draft numbers which are free to use, smallest first. */
+    private final ConcurrentSkipListSet<Integer> freeSlots;
+
+    /** Locks guarding the changes made to each draft slot. */
+    private final ReentrantLock[] stripes;
+
+    /**
+     * Constructs an empty registry.
+     * @param prefix the prefix of the section.
+     * @param maxDrafts the maximum number of drafts at once.
+     * @param lanes the dispatcher which orders the interactions of each draft.
+     */
+    public DraftRegistry(String prefix, int maxDrafts, Dispatcher lanes) {
+        dispatcher = lanes;
+        suffixPrefix = prefix.toUpperCase();
+        drafts = new ConcurrentHashMap<>();
+        freeSlots = new ConcurrentSkipListSet<>();
+        stripes = new ReentrantLock[maxDrafts];
+
+        for (int i = 1; i <= maxDrafts; i++) {
+            freeSlots.add(i);
+            stripes[i - 1] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Retrieves the lock of a draft slot.
+     * @param numDraft the number of the draft.
+     */
+    private ReentrantLock stripeOf(int numDraft) {
+        return stripes[(numDraft - 1) % stripes.length];
+    }
+
+    /**
+     * Starts a draft in the smallest free slot.
+     * @param factory a builder of the draft, given its number.
+     * @return the started draft.
+     *         null if every slot is taken.
+     */
+    public GameReqs open(IntFunction<GameReqs> factory) {
+        Integer numDraft = freeSlots.pollFirst();
+        if (numDraft == null) {
+            return null;
+        }
+
+        ReentrantLock lock = stripeOf(numDraft);
+        lock.lock();
+        try {
+            Components.forget(ComponentID.suffix(suffixPrefix, numDraft));
+            GameReqs draft = factory.apply(numDraft);
+            drafts.put(numDraft, draft);
+            scheduleExpiry(numDraft, draft);
+            return draft;
+        } catch (RuntimeException e) {
+            freeSlots.add(numDraft);
+            throw e;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves a draft.
+     * @param numDraft the number of the draft.
+     * @return said draft.
+     *         null if it does not exist.
+     */
+    public GameReqs get(int numDraft) {
+        return drafts.get(numDraft);
+    }
+
+    /**
+     * Ends a draft, freeing its slot.
+     * @param numDraft the number of the draft.
+     * @param draft the draft expected to be in the slot.
+     * @return True if the draft was released by this call.
+     *         False if the slot held a different draft or none at all.
+     */
+    public boolean release(int numDraft, GameReqs draft) {
+        ReentrantLock lock = stripeOf(numDraft);
+        lock.lock();
+        try {
+            if (!drafts.remove(numDraft, draft)) {
+                return false;
+            }
+
+            PlayerIndex.releaseAll(draft);
+            Components.forget(ComponentID.suffix(suffixPrefix, numDraft));
+            freeSlots.add(numDraft);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Schedules a draft request to expire once its first timer ends.
+     * @param numDraft the number of the draft.
+     * @param draft the draft to expire.
+     */
+    private void scheduleExpiry(int numDraft, GameReqs draft) {
+        long delay = draft.getWatch().getTimerOneEnd()
+                - System.currentTimeMillis();
+        EXPIRY.schedule(
+                () -> dispatcher.submit(laneOf(numDraft),
+                        () -> expire(numDraft, draft)),
+                Math.max(0, delay), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Ends a draft request if it has timed out, checking again
+     * later if its timer was extended.
+     * @param numDraft the number of the draft.
+     * @param draft the draft expected to be in the slot.
+     */
+    private void expire(int numDraft, GameReqs draft) {
+        ReentrantLock lock = stripeOf(numDraft);
+        lock.lock();
+        try {
+            if (drafts.get(numDraft) != draft || draft.isInitialized()) {
+                return;
+            }
+
+            if (draft.timedOut()) {
+                release(numDraft, draft);
+            } else {
+                scheduleExpiry(numDraft, draft);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the ordering key of a draft, so all interactions
+     * with it are handled one at a time.
+     * @param numDraft the number of the draft.
+     */
+    public String laneOf(int numDraft) {
+        return suffixPrefix + numDraft;
+    }
+}
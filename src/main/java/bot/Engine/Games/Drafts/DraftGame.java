@@ -3,6 +3,7 @@ package bot.Engine.Games.Drafts;
 import bot.Engine.Games.Game;
 import bot.Engine.Games.GameProperties;
 import bot.Engine.Games.GameType;
+import bot.Engine.Games.PlayerIndex;
 import bot.Engine.Profiles.Profile;
 import bot.Engine.Templates.GameReqs;
 import bot.Events;
@@ -22,6 +23,7 @@ import java.util.TreeMap;
 import java.util.Map;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author  Wil Aquino, Turtle#1504
@@ -39,6 +41,9 @@ public class DraftGame extends Game<DraftGame, DraftProcess, DraftTeam, DraftPla
      * @param draft the numbered draft that this draft is.
      * @param abbreviation the abbreviation of the section.
      * @param initialPlayer the first player of the draft queue.
+     *
+     * Note: Throws an IllegalStateException if the first player
+     *       joined another draft in the meantime.
      */
     public DraftGame(SlashCommandEvent sc, int draft,
                  String abbreviation, Member initialPlayer) {
@@ -49,6 +54,10 @@ public class DraftGame extends Game<DraftGame, DraftProcess, DraftTeam, DraftPla
                 initialPlayer.getEffectiveName(),
                 getProperties().getWinningScore(), false));
         getHistory().add(playerID);
+        if (!PlayerIndex.claim(playerID, this)) {
+            throw new IllegalStateException(
+                    "The first player is already in another draft.");
+        }
     }
 
     /**
@@ -90,13 +99,12 @@ public class DraftGame extends Game<DraftGame, DraftProcess, DraftTeam, DraftPla
 
     /**
      * Checks whether the request has timed out or not.
-     * @param interaction the user interaction calling this method.
      * @return True if the request expired.
      *         False otherwise.
      */
     @Override
-    public boolean timedOut(GenericInteractionCreateEvent interaction) {
-        return super.timedOut(interaction);
+    public boolean timedOut() {
+        return super.timedOut();
     }
 
     /** Retrieves the field for executing the draft. */
@@ -206,6 +214,9 @@ public class DraftGame extends Game<DraftGame, DraftProcess, DraftTeam, DraftPla
         } else if (getPlayers().containsKey(playerID)) {
             sendReply(bc, "You are already in this draft!", true);
             return;
+        } else if (!PlayerIndex.claim(playerID, this)) {
+            sendReply(bc, "You are already in a draft!", true);
+            return;
         } else if (!getHistory().contains(playerID)) {
             if (getPlayers().size()
                     == getProperties().getMaximumPlayersToStart() - 2) {
@@ -237,12 +248,12 @@ public class DraftGame extends Game<DraftGame, DraftProcess, DraftTeam, DraftPla
             refresh(bc);
 
             getProcess().refresh(null);
-            wait(4000);
 
             List<MessageEmbed> profiles = new Profile().viewMultiple(bc,
                     getPlayers().keySet(), "Their", false, true, false);
             if (profiles != null) {
-                getDraftChannel().sendMessageEmbeds(profiles).queue();
+                getDraftChannel().sendMessageEmbeds(profiles)
+                        .queueAfter(4, TimeUnit.SECONDS);
             }
         } else {
             refresh(bc);
@@ -4,6 +4,7 @@ import bot.Engine.Games.Process;
 import bot.Engine.Cycles.AutoLog;
 import bot.Engine.Templates.ProcessReqs;
 import bot.Tools.Components;
+import bot.Tools.EditCoalescer;
 
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.entities.TextChannel;
@@ -16,6 +17,7 @@ import net.dv8tion.jda.api.interactions.components.selections.SelectOption;
 import net.dv8tion.jda.api.interactions.components.selections.SelectionMenu;
 
 import java.util.TreeMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Map;
@@ -124,17 +126,15 @@ public class DraftProcess extends Process<DraftGame, DraftTeam, DraftPlayer>
         buttons.add(Components.ForProcess.refresh(getRequest().suffix()));
 
         if (interaction != null) {
-            interaction.getHook().editOriginal(getPing()).setActionRows(
-                    ActionRow.of(menus), ActionRow.of(buttons)).queue();
-            updateReport(interaction);
+            EditCoalescer.getInstance().edit(interaction, getPing(),
+                    Collections.singletonList(
+                            buildSummary(new EmbedBuilder()).build()),
+                    ActionRow.of(menus), ActionRow.of(buttons));
         } else {
             TextChannel channel = getRequest().getDraftChannel();
             channel.sendMessage(getPing()).setActionRows(
                     ActionRow.of(menus), ActionRow.of(buttons)).queue(
-                            message -> {
-                                message.pin().queue();
-                                getRequest().wait(1000);
-                            });
+                            message -> message.pin().queue());
         }
     }
 
@@ -193,7 +193,6 @@ public class DraftProcess extends Process<DraftGame, DraftTeam, DraftPlayer>
             getRequest().sendReply(sm,
                     "That is the end of the list. Refresh if needed.", true);
         } else {
-            sm.deferEdit().queue();
             DraftPlayer foundPlayer = getRequest().getPlayers().get(playerID);
             determineTeam(sm, authorID, playerID, foundPlayer);
 
@@ -214,8 +213,6 @@ public class DraftProcess extends Process<DraftGame, DraftTeam, DraftPlayer>
         } else if (!author.isCaptainForTeam1() && !author.isCaptainForTeam2()) {
             getRequest().sendReply(bc, "Only captains can reset the teams.", true);
         } else {
-            bc.deferEdit().queue();
-
             getTeam1().clear();
             getTeam2().clear();
 
@@ -238,8 +235,6 @@ public class DraftProcess extends Process<DraftGame, DraftTeam, DraftPlayer>
         } else if (getTeam1().needsPlayers() || getTeam2().needsPlayers()) {
             getRequest().sendReply(bc, "Not everyone is in the draft yet.", true);
         } else {
-            bc.deferEdit().queue();
-
             toggle(true);
             refresh(bc);
         }
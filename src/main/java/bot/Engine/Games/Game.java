@@ -3,23 +3,29 @@ package bot.Engine.Games;
 import bot.Engine.Profiles.Profile;
 import bot.Engine.Section;
 import bot.Engine.Templates.Command;
+import bot.Engine.Templates.GameReqs;
+import bot.Tools.ComponentID;
 import bot.Tools.Components;
 import bot.Tools.DiscordWatch;
+import bot.Tools.EditCoalescer;
+import bot.Tools.Resolver;
 
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Role;
 import net.dv8tion.jda.api.entities.TextChannel;
-import net.dv8tion.jda.api.entities.MessageChannel;
 import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.MessageEmbed;
 import net.dv8tion.jda.api.entities.Emoji;
 import net.dv8tion.jda.api.events.interaction.ButtonClickEvent;
 import net.dv8tion.jda.api.events.interaction.GenericInteractionCreateEvent;
 import net.dv8tion.jda.api.events.interaction.SlashCommandEvent;
+import net.dv8tion.jda.api.interactions.components.ActionRow;
 import net.dv8tion.jda.api.interactions.components.Button;
 
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.TreeMap;
@@ -59,8 +65,11 @@ public class Game<G extends Game<?, S, T, P>, S extends Process<G, T, P>,
     /** The draft chat channel this draft is occurring in. */
     private final TextChannel draftChat;
 
+    /** The channel this draft's initial interface is sent in. */
+    private final TextChannel requestChannel;
+
     /** The Discord message ID for this draft's initial interface. */
-    private String messageID;
+    private volatile String messageID;
 
     /** The formal process for executing this draft. */
     private S process;
@@ -92,6 +101,8 @@ public class Game<G extends Game<?, S, T, P>, S extends Process<G, T, P>,
         numInactive = 0;
 
         draftChat = getChannel(sc, getPrefix() + "-draft-chat-" + draft);
+        requestChannel = getChannel(sc, "\uD83D\uDCCD" + getPrefix()
+                + "-looking-for-draft");
     }
 
     /**
@@ -128,7 +139,7 @@ public class Game<G extends Game<?, S, T, P>, S extends Process<G, T, P>,
 
     /** Retrieves the request's suffix, often to attach to component IDs. */
     public String suffix() {
-        return getPrefix().toUpperCase() + getNumDraft();
+        return ComponentID.suffix(getPrefix(), getNumDraft());
     }
 
     /** Retrieves the players of the draft. */
@@ -169,10 +180,7 @@ public class Game<G extends Game<?, S, T, P>, S extends Process<G, T, P>,
      * @param interaction the user interaction calling this method.
      */
     public Message getMessage(GenericInteractionCreateEvent interaction) {
-        MessageChannel channel =
-                getChannel(interaction, "\uD83D\uDCCD" + getPrefix()
-                        + "-looking-for-draft");
-        return channel.retrieveMessageById(getMessageID()).complete();
+        return requestChannel.retrieveMessageById(getMessageID()).complete();
     }
 
     /**
@@ -199,18 +207,19 @@ public class Game<G extends Game<?, S, T, P>, S extends Process<G, T, P>,
 
     /**
      * Checks whether the draft request has timed out or not.
-     * @param interaction the user interaction calling this method.
      * @return True if the request expired.
      *         False otherwise.
      */
-    public boolean timedOut(GenericInteractionCreateEvent interaction) {
-        if (!isInitialized() && messageID != null
-                && getWatch().timerOneExpired()) {
-            getMessage(interaction)
-                    .editMessage("This draft has expired.")
-                    .setActionRow(Components.ForDraft.refresh(
-                                    getPrefix() + getNumDraft())
-                            .asDisabled()).queue();
+    public boolean timedOut() {
+        if (!isInitialized() && getWatch().timerOneExpired()) {
+            if (messageID != null) {
+                // a queued refresh must not revive the expired request
+                EditCoalescer.getInstance().discard(messageID);
+                requestChannel.editMessageById(messageID,
+                                "This draft has expired.")
+                        .setActionRow(Components.ForDraft.refresh(suffix())
+                                .asDisabled()).queue();
+            }
 
             String update = "A " + getPrefix().toUpperCase()
                     + " draft request has timed out.";
@@ -264,6 +273,11 @@ public class Game<G extends Game<?, S, T, P>, S extends Process<G, T, P>,
      * @param interaction the user interaction calling this method.
      */
     public void updateReport(GenericInteractionCreateEvent interaction) {
+        sendEmbed(interaction, buildReport());
+    }
+
+    /** Builds a draft confirmation summary with all players of the draft. */
+    private EmbedBuilder buildReport() {
         EmbedBuilder eb = new EmbedBuilder();
 
         eb.setTitle("Queue " + getNumDraft()
@@ -286,7 +300,7 @@ public class Game<G extends Game<?, S, T, P>, S extends Process<G, T, P>,
             }
         }
 
-        sendEmbed(interaction, buildEmbed(eb, players, subs));
+        return buildEmbed(eb, players, subs);
     }
 
     /** Formats a request ping for gathering players. */
@@ -323,8 +337,6 @@ public class Game<G extends Game<?, S, T, P>, S extends Process<G, T, P>,
                     String.format("Reping only when you need +%s or less!",
                             numPlayersLeft), true);
         } else {
-            bc.deferEdit().queue();
-
             bc.editButton(Components.ForDraft.reping(suffix())
                             .asDisabled()).queue();
             sendResponse(bc, newPing() + " (reping)", false);
@@ -343,6 +355,7 @@ public class Game<G extends Game<?, S, T, P>, S extends Process<G, T, P>,
             sendReply(bc, "You are not in this draft!", true);
         } else {
             getPlayers().remove(playerID);
+            PlayerIndex.release(playerID, (GameReqs) this);
             refresh(bc);
         }
     }
@@ -351,26 +364,24 @@ public class Game<G extends Game<?, S, T, P>, S extends Process<G, T, P>,
      * Refreshes the draft request's caption.
      * @param bc a button click to analyze.
      *
-     * Note: The interaction must not have been acknowledged
+     * Note: The interaction must have been acknowledged
      *       before this method.
      */
     public void refresh(ButtonClickEvent bc) {
-        bc.deferEdit().queue();
         setMessageID(bc.getMessageId());
 
         int activePlayers = getPlayers().size() - getNumInactive();
 
-        if (activePlayers == getProperties().getMaximumPlayersToStart()
-                || !draftStarted()) {
-            editMessage(bc, newPing());
-        } else {
+        String caption = newPing();
+        if (activePlayers != getProperties().getMaximumPlayersToStart()
+                && draftStarted()) {
             int subsNeeded =
                     getProperties().getMaximumPlayersToStart() - activePlayers;
-            editMessage(bc,
-                    newPing() + "   // " + subsNeeded + " sub(s) needed");
+            caption += "   // " + subsNeeded + " sub(s) needed";
         }
 
-        updateReport(bc);
+        EditCoalescer.getInstance().edit(bc, caption,
+                Collections.singletonList(buildReport().build()));
     }
 
     /**
@@ -434,6 +445,7 @@ public class Game<G extends Game<?, S, T, P>, S extends Process<G, T, P>,
 
         player.subOut();
         numInactive++;
+        PlayerIndex.release(playerID, (GameReqs) this);
 
         return true;
     }
@@ -496,9 +508,13 @@ public class Game<G extends Game<?, S, T, P>, S extends Process<G, T, P>,
                 throw new NullPointerException("Role not found.");
             }
 
-            hasStaffRole = sc.getMember().getRoles().contains(
-                    server.getRolesByName("Staff", true).get(0));
-        } catch (NullPointerException | IndexOutOfBoundsException e) {
+            Role staffRole = Resolver.getInstance().findRole(server, "Staff");
+            if (staffRole == null) {
+                throw new NullPointerException("Role not found.");
+            }
+
+            hasStaffRole = sc.getMember().getRoles().contains(staffRole);
+        } catch (NullPointerException e) {
             sendReply(sc, "Staff role could not be checked for.", true);
             log("Staff role during forcesub could not be found.", true);
             return false;
@@ -548,9 +564,15 @@ public class Game<G extends Game<?, S, T, P>, S extends Process<G, T, P>,
         String statement;
         boolean displayProfile = false;
 
+        if (!PlayerIndex.claim(playerID, (GameReqs) this)) {
+            sendReply(bc, "You are already in a draft!", true);
+            return false;
+        }
+
         if (getPlayers().containsKey(playerID)) {
             P player = getPlayers().get(playerID);
             if (player.getSubAmount() == 2) {
+                PlayerIndex.release(playerID, (GameReqs) this);
                 sendReply(bc,
                         "You have already been subbed out twice! You cannot "
                                 + "sub anymore for this draft.", true);
@@ -621,11 +643,11 @@ public class Game<G extends Game<?, S, T, P>, S extends Process<G, T, P>,
                     + "once then try again.", true);
             return false;
         } else {
+            EditCoalescer.getInstance().discard(getMessageID());
             getChannel(sc, "\uD83D\uDCCD" + getPrefix() + "-looking-for-draft")
                     .retrieveMessageById(getMessageID()).complete()
                     .editMessage("This draft has forcibly ended.")
-                    .setActionRow(Components.ForDraft.refresh(
-                                    getPrefix() + getNumDraft())
+                    .setActionRow(Components.ForDraft.refresh(suffix())
                             .asDisabled()).queue();
 
             if (isInitialized()) {
@@ -666,7 +688,9 @@ public class Game<G extends Game<?, S, T, P>, S extends Process<G, T, P>,
         String caption = getSectionRole() + " +"
                 + (getProperties().getMaximumPlayersToStart() - 1);
 
-        sc.reply(caption).addActionRow(buttons).queue();
+        sc.getHook().editOriginal(caption)
+                .setActionRows(ActionRow.of(buttons))
+                .queue(message -> setMessageID(message.getId()));
         updateReport(sc);
 
         log("A " + getPrefix().toUpperCase()
@@ -11,8 +11,12 @@ import net.dv8tion.jda.api.events.interaction.SlashCommandEvent;
 
 import java.util.List;
 import java.util.ArrayList;
-import java.util.TreeMap;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * @author  Wil Aquino
@@ -34,304 +38,332 @@ public class MapGenerator extends Section implements Command {
     /** The maximum number of maplists which a draft can generate. */
     private final static int MAX_DRAFT_MAPLISTS = 2;
 
-    /**
-     * Loads the map generator's random number generator.
-     * @param abbreviation the abbreviation of the section.
-     * @param draft a found draft.
-     */
-    public MapGenerator(String abbreviation, GameReqs draft) {
-        super(abbreviation);
-        foundDraft = draft;
-    }
+    /** The ranked modes which a maplist cycles through. */
+    private final static List<String> MODES = Collections.unmodifiableList(
+            Arrays.asList("Splat Zones", "Tower Control", "Rainmaker",
+                    "Clam Blitz"));
 
-    /**
-     * Resets the generator's available modes list.
-     */
-    private void resetModes(List<String> modes) {
-        modes.add("Splat Zones");
-        modes.add("Tower Control");
-        modes.add("Rainmaker");
-        modes.add("Clam Blitz");
-    }
+    /** The legal maps for each game mode, indexed by section prefix (S3). */
+    private final static Map<String, Map<String, List<String>>> LEGAL_MAPS_S3;
 
-    /** Retrieves the Freshwater Shoals legal maps for each game mode (S2). */
-    private TreeMap<String, List<String>> getLegalFSMapsS2() {
-        TreeMap<String, List<String>> legalMaps = new TreeMap<>();
-        List<String> twMaps = new ArrayList<>(Arrays.asList(
-                "Inkblot Art Academy", "MakoMart", "Ancho-V Games",
-                "Sturgeon Shipyard", "Skipper Pavilion", "The Reef",
-                "Humpback Pump Track", "Starfish Mainstage", "Wahoo World",
-                "Piranha Pit", "Manta Maria", "New Albacore Hotel",
-                "Musselforge Fitness", "Snapper Canal", "Goby Arena"));
-        List<String> szMaps = new ArrayList<>(Arrays.asList(
+    /** The legal maps for each game mode, indexed by section prefix (S2). */
+    private final static Map<String, Map<String, List<String>>> LEGAL_MAPS_S2;
+
+    /** The URLs of S2 maps online, indexed by map. */
+    private final static Map<String, String> S2_MAP_URLS;
+
+    /** The URL of a S2 map without a listed URL. */
+    private final static String S2_DEFAULT_URL =
+            "https://cdn.wikimg.net/en/splatoonwiki/images/1/10/S2_Stage_Skipper_Pavilion.png";
+
+    /** The URLs of S3 maps online, indexed by map. */
+    private final static Map<String, String> S3_MAP_URLS;
+
+    /** The URL of a S3 map without a listed URL. */
+    private final static String S3_DEFAULT_URL =
+            "https://cdn.wikimg.net/en/splatoonwiki/images/7/71/S3_Stage_Wahoo_World.png";
+
+    static {
+        Map<String, Map<String, List<String>>> s3 = new HashMap<>();
+        Map<String, Map<String, List<String>>> s2 = new HashMap<>();
+
+        Map<String, List<String>> fsS2 = new HashMap<>();
+        fsS2.put("Turf War", pool(
                 "Inkblot Art Academy", "MakoMart", "Ancho-V Games",
                 "Sturgeon Shipyard", "Skipper Pavilion", "The Reef",
                 "Humpback Pump Track", "Starfish Mainstage", "Wahoo World",
                 "Piranha Pit", "Manta Maria", "New Albacore Hotel",
                 "Musselforge Fitness", "Snapper Canal", "Goby Arena"));
-        List<String> tcMaps = new ArrayList<>(Arrays.asList(
+        fsS2.put("Splat Zones", fsS2.get("Turf War"));
+        fsS2.put("Tower Control", pool(
                 "Inkblot Art Academy", "Ancho-V Games", "Sturgeon Shipyard",
                 "Starfish Mainstage", "MakoMart", "The Reef", "Manta Maria",
                 "Piranha Pit", "Skipper Pavilion", "Snapper Canal",
                 "Humpback Pump Track"));
-        List<String> rmMaps = new ArrayList<>(Arrays.asList(
+        fsS2.put("Rainmaker", pool(
                 "Humpback Pump Track", "Starfish Mainstage", "Manta Maria",
                 "Sturgeon Shipyard", "Snapper Canal", "Ancho-V Games",
                 "MakoMart", "The Reef", "Inkblot Art Academy",
                 "Blackbelly Skatepark", "Musselforge Fitness", "Piranha Pit"));
-        List<String> cbMaps = new ArrayList<>(Arrays.asList(
+        fsS2.put("Clam Blitz", pool(
                 "Inkblot Art Academy", "The Reef", "MakoMart", "Piranha Pit",
                 "Snapper Canal", "Humpback Pump Track", "Sturgeon Shipyard",
                 "Starfish Mainstage", "Ancho-V Games", "New Albacore Hotel",
                 "Manta Maria"));
+        fsS2.put("Hide & Seek", fsS2.get("Turf War"));
+        fsS2.put("Juggernaut", fsS2.get("Turf War"));
+        fsS2.put("Spawn Rush", fsS2.get("Turf War"));
+        s2.put("fs", Collections.unmodifiableMap(fsS2));
 
-        List<String> hsMaps = new ArrayList<>(Arrays.asList(
-                "Inkblot Art Academy", "MakoMart", "Ancho-V Games",
-                "Sturgeon Shipyard", "Skipper Pavilion", "The Reef",
-                "Humpback Pump Track", "Starfish Mainstage", "Wahoo World",
-                "Piranha Pit", "Manta Maria", "New Albacore Hotel",
-                "Musselforge Fitness", "Snapper Canal", "Goby Arena"));
-        List<String> jnMaps = new ArrayList<>(Arrays.asList(
-                "Inkblot Art Academy", "MakoMart", "Ancho-V Games",
-                "Sturgeon Shipyard", "Skipper Pavilion", "The Reef",
-                "Humpback Pump Track", "Starfish Mainstage", "Wahoo World",
-                "Piranha Pit", "Manta Maria", "New Albacore Hotel",
-                "Musselforge Fitness", "Snapper Canal", "Goby Arena"));
-        List<String> srMaps = new ArrayList<>(Arrays.asList(
-                "Inkblot Art Academy", "MakoMart", "Ancho-V Games",
-                "Sturgeon Shipyard", "Skipper Pavilion", "The Reef",
-                "Humpback Pump Track", "Starfish Mainstage", "Wahoo World",
-                "Piranha Pit", "Manta Maria", "New Albacore Hotel",
-                "Musselforge Fitness", "Snapper Canal", "Goby Arena"));
-
-        legalMaps.put("Turf War", twMaps);
-        legalMaps.put("Splat Zones", szMaps);
-        legalMaps.put("Tower Control", tcMaps);
-        legalMaps.put("Rainmaker", rmMaps);
-        legalMaps.put("Clam Blitz", cbMaps);
-
-        legalMaps.put("Hide & Seek", hsMaps);
-        legalMaps.put("Juggernaut", jnMaps);
-        legalMaps.put("Spawn Rush", srMaps);
-
-        return legalMaps;
-    }
-
-    /** Retrieves the Freshwater Shoals legal maps for each game mode (S3). */
-    private TreeMap<String, List<String>> getLegalFSMapsS3() {
-        TreeMap<String, List<String>> legalMaps = new TreeMap<>();
-        List<String> twMaps = new ArrayList<>(Arrays.asList(
-                "Scorch Gorge", "Eeltail Alley", "Hagglefish Market",
-                "Undertow Spillway", "Mincemeat Metalworks",
-                "Hammerhead Bridge", "Museum D'Alfonsino", "Mahi-Mahi Resort",
-                "Inkblot Art Academy", "Sturgeon Shipyard", "MakoMart",
-                "Wahoo World", "Brinewater Springs", "Flounder Heights",
-                "Um'ami Ruins", "Manta Maria"));
-        List<String> szMaps = new ArrayList<>(Arrays.asList(
-                "Scorch Gorge", "Eeltail Alley", "Hagglefish Market",
-                "Undertow Spillway", "Mincemeat Metalworks",
-                "Hammerhead Bridge", "Museum D'Alfonsino", "Mahi-Mahi Resort",
-                "Inkblot Art Academy", "Sturgeon Shipyard", "MakoMart",
-                "Wahoo World", "Brinewater Springs", "Flounder Heights",
-                "Um'ami Ruins", "Manta Maria"));
-        List<String> tcMaps = new ArrayList<>(Arrays.asList(
-                "Scorch Gorge", "Eeltail Alley", "Hagglefish Market",
-                "Undertow Spillway", "Mincemeat Metalworks",
-                "Hammerhead Bridge", "Museum D'Alfonsino", "Mahi-Mahi Resort",
-                "Inkblot Art Academy", "Sturgeon Shipyard", "MakoMart",
-                "Wahoo World", "Brinewater Springs", "Flounder Heights",
-                "Um'ami Ruins", "Manta Maria"));
-        List<String> rmMaps = new ArrayList<>(Arrays.asList(
-                "Scorch Gorge", "Eeltail Alley", "Hagglefish Market",
-                "Undertow Spillway", "Mincemeat Metalworks",
-                "Hammerhead Bridge", "Museum D'Alfonsino", "Mahi-Mahi Resort",
-                "Inkblot Art Academy", "Sturgeon Shipyard", "MakoMart",
-                "Wahoo World", "Brinewater Springs", "Flounder Heights",
-                "Um'ami Ruins", "Manta Maria"));
-        List<String> cbMaps = new ArrayList<>(Arrays.asList(
-                "Scorch Gorge", "Eeltail Alley", "Hagglefish Market",
-                "Undertow Spillway", "Mincemeat Metalworks",
-                "Hammerhead Bridge", "Museum D'Alfonsino", "Mahi-Mahi Resort",
-                "Inkblot Art Academy", "Sturgeon Shipyard", "MakoMart",
-                "Wahoo World", "Brinewater Springs", "Flounder Heights",
-                "Um'ami Ruins", "Manta Maria"));
-
-        List<String> hsMaps = new ArrayList<>(Arrays.asList(
+        Map<String, List<String>> fsS3 = new HashMap<>();
+        fsS3.put("Turf War", pool(
                 "Scorch Gorge", "Eeltail Alley", "Hagglefish Market",
                 "Undertow Spillway", "Mincemeat Metalworks",
-                "Hammerhead Bridge", "Museum D'Alfonsino", "Mahi-Mahi Resort",
-                "Inkblot Art Academy", "Sturgeon Shipyard", "MakoMart",
-                "Wahoo World", "Brinewater Springs", "Flounder Heights",
-                "Um'ami Ruins", "Manta Maria"));
-        List<String> jnMaps = new ArrayList<>(Arrays.asList(
-                "Scorch Gorge", "Eeltail Alley", "Hagglefish Market",
-                "Undertow Spillway", "Mincemeat Metalworks",
-                "Hammerhead Bridge", "Museum D'Alfonsino", "Mahi-Mahi Resort",
-                "Inkblot Art Academy", "Sturgeon Shipyard", "MakoMart",
-                "Wahoo World", "Brinewater Springs", "Flounder Heights",
-                "Um'ami Ruins", "Manta Maria"));
-        List<String> srMaps = new ArrayList<>(Arrays.asList(
-                "Scorch Gorge", "Eeltail Alley", "Hagglefish Market",
-                "Undertow Spillway", "Mincemeat Metalworks",
-                "Hammerhead Bridge", "Museum D'Alfonsino", "Mahi-Mahi Resort",
-                "Inkblot Art Academy", "Sturgeon Shipyard", "MakoMart",
-                "Wahoo World", "Brinewater Springs", "Flounder Heights",
-                "Um'ami Ruins", "Manta Maria"));
-
-        legalMaps.put("Turf War", twMaps);
-        legalMaps.put("Splat Zones", szMaps);
-        legalMaps.put("Tower Control", tcMaps);
-        legalMaps.put("Rainmaker", rmMaps);
-        legalMaps.put("Clam Blitz", cbMaps);
-
-        legalMaps.put("Hide & Seek", hsMaps);
-        legalMaps.put("Juggernaut", jnMaps);
-        legalMaps.put("Spawn Rush", srMaps);
-
-        return legalMaps;
-    }
-
-    /** Retrieves the LaunchPoint legal maps for each game mode (S2). */
-    private TreeMap<String, List<String>> getLegalLPMapsS2() {
-        TreeMap<String, List<String>> legalMaps = new TreeMap<>();
-        List<String> szMaps = new ArrayList<>(Arrays.asList(
+                "Hammerhead Bridge", "Museum D'Alfonsino",
+                "Mahi-Mahi Resort", "Inkblot Art Academy",
+                "Sturgeon Shipyard", "MakoMart", "Wahoo World",
+                "Brinewater Springs", "Flounder Heights", "Um'ami Ruins",
+                "Manta Maria"));
+        fsS3.put("Splat Zones", fsS3.get("Turf War"));
+        fsS3.put("Tower Control", fsS3.get("Turf War"));
+        fsS3.put("Rainmaker", fsS3.get("Turf War"));
+        fsS3.put("Clam Blitz", fsS3.get("Turf War"));
+        fsS3.put("Hide & Seek", fsS3.get("Turf War"));
+        fsS3.put("Juggernaut", fsS3.get("Turf War"));
+        fsS3.put("Spawn Rush", fsS3.get("Turf War"));
+        s3.put("fs", Collections.unmodifiableMap(fsS3));
+
+        Map<String, List<String>> lpS2 = new HashMap<>();
+        lpS2.put("Splat Zones", pool(
                 "Inkblot Art Academy", "MakoMart", "Ancho-V Games",
                 "Sturgeon Shipyard", "Skipper Pavilion", "The Reef",
                 "Humpback Pump Track", "Starfish Mainstage", "Wahoo World",
                 "Piranha Pit", "Manta Maria", "New Albacore Hotel",
                 "Musselforge Fitness", "Snapper Canal", "Goby Arena"));
-        List<String> tcMaps = new ArrayList<>(Arrays.asList(
+        lpS2.put("Tower Control", pool(
                 "Inkblot Art Academy", "Ancho-V Games", "Sturgeon Shipyard",
                 "Starfish Mainstage", "MakoMart", "The Reef", "Manta Maria",
                 "Piranha Pit", "Skipper Pavilion", "Snapper Canal",
                 "Humpback Pump Track"));
-        List<String> rmMaps = new ArrayList<>(Arrays.asList(
+        lpS2.put("Rainmaker", pool(
                 "Humpback Pump Track", "Starfish Mainstage", "Manta Maria",
                 "Sturgeon Shipyard", "Snapper Canal", "Ancho-V Games",
                 "MakoMart", "The Reef", "Inkblot Art Academy",
                 "Blackbelly Skatepark", "Musselforge Fitness", "Piranha Pit"));
-        List<String> cbMaps = new ArrayList<>(Arrays.asList(
+        lpS2.put("Clam Blitz", pool(
                 "Inkblot Art Academy", "The Reef", "MakoMart", "Piranha Pit",
                 "Snapper Canal", "Humpback Pump Track", "Sturgeon Shipyard",
                 "Starfish Mainstage", "Ancho-V Games", "New Albacore Hotel",
                 "Manta Maria"));
+        s2.put("lp", Collections.unmodifiableMap(lpS2));
 
-        legalMaps.put("Splat Zones", szMaps);
-        legalMaps.put("Tower Control", tcMaps);
-        legalMaps.put("Rainmaker", rmMaps);
-        legalMaps.put("Clam Blitz", cbMaps);
-
-        return legalMaps;
-    }
-
-    /** Retrieves the LaunchPoint legal maps for each game mode (S3). */
-    private TreeMap<String, List<String>> getLegalLPMapsS3() {
-        TreeMap<String, List<String>> legalMaps = new TreeMap<>();
-        List<String> szMaps = new ArrayList<>(Arrays.asList(
+        Map<String, List<String>> lpS3 = new HashMap<>();
+        lpS3.put("Splat Zones", pool(
                 "Barnacle & Dime", "Brinewater Springs", "Flounder Heights",
                 "Hagglefish Market", "Humpback Pump Track",
                 "Inkblot Art Academy", "MakoMart", "Manta Maria",
                 "Museum d'Alfonsino", "Sturgeon Shipyard", "Um'ami Ruins"));
-        List<String> tcMaps = new ArrayList<>(Arrays.asList(
+        lpS3.put("Tower Control", pool(
                 "Barnacle & Dime", "Eeltail Alley", "Flounder Heights",
                 "Hagglefish Market", "Humpback Pump Track",
                 "Inkblot Art Academy", "MakoMart", "Manta Maria",
                 "Museum d'Alfonsino", "Sturgeon Shipyard",
                 "Undertow Spillway"));
-        List<String> rmMaps = new ArrayList<>(Arrays.asList(
+        lpS3.put("Rainmaker", pool(
                 "Eeltail Alley", "Flounder Heights", "Hagglefish Market",
                 "Humpback Pump Track", "Inkblot Art Academy", "MakoMart",
                 "Manta Maria", "Museum d'Alfonsino", "Scorch Gorge",
                 "Sturgeon Shipyard", "Undertow Spillway"));
-        List<String> cbMaps = new ArrayList<>(Arrays.asList(
+        lpS3.put("Clam Blitz", pool(
                 "Barnacle & Dime", "Brinewater Springs", "Flounder Heights",
                 "Hagglefish Market", "Humpback Pump Track",
                 "Inkblot Art Academy", "MakoMart", "Manta Maria",
                 "Museum d'Alfonsino", "Scorch Gorge", "Um'ami Ruins"));
+        s3.put("lp", Collections.unmodifiableMap(lpS3));
 
-        legalMaps.put("Splat Zones", szMaps);
-        legalMaps.put("Tower Control", tcMaps);
-        legalMaps.put("Rainmaker", rmMaps);
-        legalMaps.put("Clam Blitz", cbMaps);
-
-        return legalMaps;
-    }
-
-    /** Retrieves the Ink Odyssey legal maps for each game mode (S2). */
-    private TreeMap<String, List<String>> getLegalIOMapsS2() {
-        TreeMap<String, List<String>> legalMaps = new TreeMap<>();
-        List<String> szMaps = new ArrayList<>(Arrays.asList(
+        Map<String, List<String>> ioS2 = new HashMap<>();
+        ioS2.put("Splat Zones", pool(
                 "Inkblot Art Academy", "MakoMart", "Ancho-V Games",
                 "Sturgeon Shipyard", "The Reef", "Wahoo World",
                 "Humpback Pump Track", "Piranha Pit", "Starfish Mainstage",
                 "Manta Maria", "Skipper Pavilion", "New Albacore Hotel",
                 "Musselforge Fitness", "Snapper Canal", "Goby Arena",
                 "Camp Triggerfish"));
-        List<String> tcMaps = new ArrayList<>(Arrays.asList(
+        ioS2.put("Tower Control", pool(
                 "Inkblot Art Academy", "Sturgeon Shipyard", "Ancho-V Games",
                 "MakoMart", "The Reef", "Starfish Mainstage", "Manta Maria",
                 "Piranha Pit", "Snapper Canal", "Shellendorf Institute",
                 "Musselforge Fitness"));
-        List<String> rmMaps = new ArrayList<>(Arrays.asList(
+        ioS2.put("Rainmaker", pool(
                 "Starfish Mainstage", "Manta Maria", "Blackbelly Skatepark",
                 "Sturgeon Shipyard", "Humpback Pump Track", "Ancho-V Games",
                 "The Reef", "Inkblot Art Academy", "Snapper Canal",
                 "MakoMart", "Musselforge Fitness", "Piranha Pit"));
-        List<String> cbMaps = new ArrayList<>(Arrays.asList(
-                "Inkblot Art Academy", "The Reef", "MakoMart", "Snapper Canal",
-                "Piranha Pit", "Sturgeon Shipyard", "Humpback Pump Track",
-                "Starfish Mainstage", "New Albacore Hotel", "Manta Maria",
-                "Ancho-V Games"));
-
-        legalMaps.put("Splat Zones", szMaps);
-        legalMaps.put("Tower Control", tcMaps);
-        legalMaps.put("Rainmaker", rmMaps);
-        legalMaps.put("Clam Blitz", cbMaps);
-
-        return legalMaps;
-    }
-
-    /** Retrieves the Ink Odyssey legal maps for each game mode (S3). */
-    private TreeMap<String, List<String>> getLegalIOMapsS3() {
-        TreeMap<String, List<String>> legalMaps = new TreeMap<>();
-        List<String> szMaps = new ArrayList<>(Arrays.asList(
+        ioS2.put("Clam Blitz", pool(
+                "Inkblot Art Academy", "The Reef", "MakoMart",
+                "Snapper Canal", "Piranha Pit", "Sturgeon Shipyard",
+                "Humpback Pump Track", "Starfish Mainstage",
+                "New Albacore Hotel", "Manta Maria", "Ancho-V Games"));
+        s2.put("io", Collections.unmodifiableMap(ioS2));
+
+        Map<String, List<String>> ioS3 = new HashMap<>();
+        ioS3.put("Splat Zones", pool(
                 "Barnacle & Dime", "Flounder Heights", "Hagglefish Market",
                 "Humpback Pump Track", "Inkblot Art Academy",
                 "Mahi-Mahi Resort", "MakoMart", "Manta Maria",
                 "Museum d'Alfonsino", "Sturgeon Shipyard", "Wahoo World"));
-        List<String> tcMaps = new ArrayList<>(Arrays.asList(
+        ioS3.put("Tower Control", pool(
                 "Barnacle & Dime", "Eeltail Alley", "Hagglefish Market",
                 "Inkblot Art Academy", "MakoMart", "Manta Maria",
                 "Museum d'Alfonsino", "Scorch Gorge", "Sturgeon Shipyard",
                 "Undertow Spillway"));
-        List<String> rmMaps = new ArrayList<>(Arrays.asList(
+        ioS3.put("Rainmaker", pool(
                 "Barnacle & Dime", "Eeltail Alley", "Hagglefish Market",
                 "Humpback Pump Track", "MakoMart", "Manta Maria",
                 "Museum d'Alfonsino", "Scorch Gorge", "Sturgeon Shipyard",
                 "Undertow Spillway"));
-        List<String> cbMaps = new ArrayList<>(Arrays.asList(
+        ioS3.put("Clam Blitz", pool(
                 "Barnacle & Dime", "Brinewater Springs", "Hagglefish Market",
-                "Humpback Pump Track", "Inkblot Art Academy", "Mahi-Mahi Resort",
-                "MakoMart", "Manta Maria", "Museum d'Alfonsino", "Scorch Gorge",
-                "Sturgeon Shipyard", "Um'ami Ruins"));
+                "Humpback Pump Track", "Inkblot Art Academy",
+                "Mahi-Mahi Resort", "MakoMart", "Manta Maria",
+                "Museum d'Alfonsino", "Scorch Gorge", "Sturgeon Shipyard",
+                "Um'ami Ruins"));
+        s3.put("io", Collections.unmodifiableMap(ioS3));
+
+        LEGAL_MAPS_S3 = Collections.unmodifiableMap(s3);
+        LEGAL_MAPS_S2 = Collections.unmodifiableMap(s2);
+
+        Map<String, String> s2URLs = new HashMap<>();
+        s2URLs.put("Humpback Pump Track",
+                "https://static.wikia.nocookie.net/splatoon/images/a/a4/HumpbackPumpTrack.jpg");
+        s2URLs.put("Inkblot Art Academy",
+                "https://cdn.wikimg.net/en/splatoonwiki/images/c/c9/S2_Stage_Inkblot_Art_Academy.png");
+        s2URLs.put("Moray Towers",
+                "https://static.wikia.nocookie.net/splatoon/images/2/21/200px-MorayTowers.png");
+        s2URLs.put("Musselforge Fitness",
+                "https://cdn.wikimg.net/en/splatoonwiki/images/c/cd/S2_Stage_Musselforge_Fitness.png");
+        s2URLs.put("Port Mackerel",
+                "https://static.wikia.nocookie.net/splatoon/images/1/1f/PortMackerel.jpg");
+        s2URLs.put("Starfish Mainstage",
+                "https://cdn.wikimg.net/en/splatoonwiki/images/3/31/S2_Stage_Starfish_Mainstage.png");
+        s2URLs.put("Sturgeon Shipyard",
+                "https://static.wikia.nocookie.net/splatoon/images/3/38/SturgeonShipyard.png");
+        s2URLs.put("The Reef",
+                "https://cdn.wikimg.net/en/splatoonwiki/images/f/f7/S2_Stage_The_Reef.png");
+        s2URLs.put("Manta Maria",
+                "https://cdn.wikimg.net/en/splatoonwiki/images/7/7e/S2_Stage_Manta_Maria.png");
+        s2URLs.put("Kelp Dome",
+                "https://cdn.wikimg.net/en/splatoonwiki/images/f/f0/S2_Stage_Kelp_Dome.png");
+        s2URLs.put("Snapper Canal",
+                "https://cdn.wikimg.net/en/splatoonwiki/images/9/91/S2_Stage_Snapper_Canal.png");
+        s2URLs.put("Blackbelly Skatepark",
+                "https://cdn.wikimg.net/en/splatoonwiki/images/1/11/S2_Stage_Blackbelly_Skatepark.png");
+        s2URLs.put("MakoMart",
+                "https://cdn.wikimg.net/en/splatoonwiki/images/d/d4/S2_Stage_MakoMart.png");
+        s2URLs.put("Walleye Warehouse",
+                "https://cdn.wikimg.net/en/splatoonwiki/images/6/6a/S2_Stage_Walleye_Warehouse.png");
+        s2URLs.put("Shellendorf Institute",
+                "https://cdn.wikimg.net/en/splatoonwiki/images/6/6c/S2_Stage_Shellendorf_Institute.png");
+        s2URLs.put("Arowana Mall",
+                "https://cdn.wikimg.net/en/splatoonwiki/images/f/f5/S2_Stage_Arowana_Mall.png");
+        s2URLs.put("Goby Arena",
+                "https://cdn.wikimg.net/en/splatoonwiki/images/d/d0/S2_Stage_Goby_Arena.png");
+        s2URLs.put("Piranha Pit",
+                "https://cdn.wikimg.net/en/splatoonwiki/images/8/88/S2_Stage_Piranha_Pit.png");
+        s2URLs.put("Camp Triggerfish",
+                "https://cdn.wikimg.net/en/splatoonwiki/images/e/ef/S2_Stage_Camp_Triggerfish.png");
+        s2URLs.put("Wahoo World",
+                "https://cdn.wikimg.net/en/splatoonwiki/images/1/14/S2_Stage_Wahoo_World.png");
+        s2URLs.put("New Albacore Hotel",
+                "https://cdn.wikimg.net/en/splatoonwiki/images/d/da/S2_Stage_New_Albacore_Hotel.png");
+        s2URLs.put("Ancho-V Games",
+                "https://cdn.wikimg.net/en/splatoonwiki/images/2/20/S2_Stage_Ancho-V_Games.png");
+        S2_MAP_URLS = Collections.unmodifiableMap(s2URLs);
+
+        Map<String, String> s3URLs = new HashMap<>();
+        s3URLs.put("Scorch Gorge",
+                "https://cdn.wikimg.net/en/splatoonwiki/images/1/1c/S3_Stage_Scorch_Gorge.png");
+        s3URLs.put("Eeltail Alley",
+                "https://cdn.wikimg.net/en/splatoonwiki/images/7/7d/S3_Stage_Eeltail_Alley.png");
+        s3URLs.put("Hagglefish Market",
+                "https://cdn.wikimg.net/en/splatoonwiki/images/a/ad/S3_Stage_Hagglefish_Market.png");
+        s3URLs.put("Undertow Spillway",
+                "https://cdn.wikimg.net/en/splatoonwiki/images/a/ad/S3_Stage_Undertow_Spillway.png");
+        s3URLs.put("Mincemeat Metalworks",
+                "https://cdn.wikimg.net/en/splatoonwiki/images/d/d1/S3_Stage_Mincemeat_Metalworks.png");
+        s3URLs.put("Hammerhead Bridge",
+                "https://cdn.wikimg.net/en/splatoonwiki/images/9/94/S3_Stage_Hammerhead_Bridge.png");
+        s3URLs.put("Museum d'Alfonsino",
+                "https://cdn.wikimg.net/en/splatoonwiki/images/6/6a/S3_Stage_Museum_d%27Alfonsino.png");
+        s3URLs.put("Mahi-Mahi Resort",
+                "https://cdn.wikimg.net/en/splatoonwiki/images/6/6b/S3_Stage_Mahi-Mahi_Resort.png");
+        s3URLs.put("Inkblot Art Academy",
+                "https://cdn.wikimg.net/en/splatoonwiki/images/4/45/S3_Stage_Inkblot_Art_Academy.png");
+        s3URLs.put("Sturgeon Shipyard",
+                "https://cdn.wikimg.net/en/splatoonwiki/images/4/45/S3_Stage_Sturgeon_Shipyard.png");
+        s3URLs.put("MakoMart",
+                "https://cdn.wikimg.net/en/splatoonwiki/images/4/47/S3_Stage_MakoMart.png");
+        s3URLs.put("Brinewater Springs",
+                "https://cdn.wikimg.net/en/splatoonwiki/images/f/fc/S3_Stage_Brinewater_Springs.png");
+        s3URLs.put("Flounder Heights",
+                "https://cdn.wikimg.net/en/splatoonwiki/images/2/23/S3_Stage_Flounder_Heights.png");
+        s3URLs.put("Um'ami Ruins",
+                "https://cdn.wikimg.net/en/splatoonwiki/images/9/95/S3_Stage_Um%27ami_Ruins.png");
+        s3URLs.put("Manta Maria",
+                "https://cdn.wikimg.net/en/splatoonwiki/images/8/86/S3_Stage_Manta_Maria.png");
+        s3URLs.put("Barnacle & Dime",
+                "https://cdn.wikimg.net/en/splatoonwiki/images/2/2a/S3_Stage_Barnacle_%26_Dime.png");
+        s3URLs.put("Humpback Pump Track",
+                "https://cdn.wikimg.net/en/splatoonwiki/images/5/57/S3_Stage_Humpback_Pump_Track.png");
+        S3_MAP_URLS = Collections.unmodifiableMap(s3URLs);
+    }
+
+    /** The maps of a mode which have not been drawn yet. */
+    private static class MapPool {
+
+        /** The mode's maps, with the undrawn ones first. */
+        private final String[] maps;
+
+        /** The amount of undrawn maps. */
+        private int undrawn;
 
-        legalMaps.put("Splat Zones", szMaps);
-        legalMaps.put("Tower Control", tcMaps);
-        legalMaps.put("Rainmaker", rmMaps);
-        legalMaps.put("Clam Blitz", cbMaps);
+        /**
+         * Constructs a full pool.
+         * @param legalMaps the legal maps of the mode.
+         */
+        private MapPool(List<String> legalMaps) {
+            maps = legalMaps.toArray(new String[0]);
+            undrawn = maps.length;
+        }
+
+        /**
+         * Draws a random map by a partial Fisher-Yates shuffle, moving it
+         * past the undrawn ones so it cannot be drawn again.
+         * @param played the maps already in the maplist.
+         * @return the drawn map, or a repeat if every map was played.
+         */
+        private String draw(Set<String> played) {
+            while (undrawn > 0) {
+                int rIndex = Events.RANDOM_GENERATOR.nextInt(undrawn);
+                String map = maps[rIndex];
+                maps[rIndex] = maps[--undrawn];
+                maps[undrawn] = map;
+
+                if (!played.contains(map)) {
+                    return map;
+                }
+            }
+
+            return maps[Events.RANDOM_GENERATOR.nextInt(maps.length)];
+        }
+    }
+
+    /**
+     * Loads the map generator's random number generator.
+     * @param abbreviation the abbreviation of the section.
+     * @param draft a found draft.
+     */
+    public MapGenerator(String abbreviation, GameReqs draft) {
+        super(abbreviation);
+        foundDraft = draft;
+    }
 
-        return legalMaps;
+    /**
+     * Builds an immutable pool of maps.
+     * @param maps the maps within the pool.
+     */
+    private static List<String> pool(String... maps) {
+        return Collections.unmodifiableList(Arrays.asList(maps));
     }
 
     /** Retrieves the legal maps for a section. */
-    private TreeMap<String, List<String>> getLegalMaps() {
+    private Map<String, List<String>> getLegalMaps() {
         switch (getPrefix()) {
             case "fs":
-                return getLegalFSMapsS3();
             case "lp":
-                return getLegalLPMapsS3();
+                return LEGAL_MAPS_S3.get(getPrefix());
             default:
-                return getLegalIOMapsS3();
+                return LEGAL_MAPS_S3.get("io");
         }
     }
 
@@ -340,54 +372,7 @@ public class MapGenerator extends Section implements Command {
      * @param map the map to search for.
      */
     private String findS2MapURL(String map) {
-        switch (map) {
-            case "Humpback Pump Track":
-                return "https://static.wikia.nocookie.net/splatoon/images/a/a4/HumpbackPumpTrack.jpg";
-            case "Inkblot Art Academy":
-                return "https://cdn.wikimg.net/en/splatoonwiki/images/c/c9/S2_Stage_Inkblot_Art_Academy.png";
-            case "Moray Towers":
-                return "https://static.wikia.nocookie.net/splatoon/images/2/21/200px-MorayTowers.png";
-            case "Musselforge Fitness":
-                return "https://cdn.wikimg.net/en/splatoonwiki/images/c/cd/S2_Stage_Musselforge_Fitness.png";
-            case "Port Mackerel":
-                return "https://static.wikia.nocookie.net/splatoon/images/1/1f/PortMackerel.jpg";
-            case "Starfish Mainstage":
-                return "https://cdn.wikimg.net/en/splatoonwiki/images/3/31/S2_Stage_Starfish_Mainstage.png";
-            case "Sturgeon Shipyard":
-                return "https://static.wikia.nocookie.net/splatoon/images/3/38/SturgeonShipyard.png";
-            case "The Reef":
-                return "https://cdn.wikimg.net/en/splatoonwiki/images/f/f7/S2_Stage_The_Reef.png";
-            case "Manta Maria":
-                return "https://cdn.wikimg.net/en/splatoonwiki/images/7/7e/S2_Stage_Manta_Maria.png";
-            case "Kelp Dome":
-                return "https://cdn.wikimg.net/en/splatoonwiki/images/f/f0/S2_Stage_Kelp_Dome.png";
-            case "Snapper Canal":
-                return "https://cdn.wikimg.net/en/splatoonwiki/images/9/91/S2_Stage_Snapper_Canal.png";
-            case "Blackbelly Skatepark":
-                return "https://cdn.wikimg.net/en/splatoonwiki/images/1/11/S2_Stage_Blackbelly_Skatepark.png";
-            case "MakoMart":
-                return "https://cdn.wikimg.net/en/splatoonwiki/images/d/d4/S2_Stage_MakoMart.png";
-            case "Walleye Warehouse":
-                return "https://cdn.wikimg.net/en/splatoonwiki/images/6/6a/S2_Stage_Walleye_Warehouse.png";
-            case "Shellendorf Institute":
-                return "https://cdn.wikimg.net/en/splatoonwiki/images/6/6c/S2_Stage_Shellendorf_Institute.png";
-            case "Arowana Mall":
-                return "https://cdn.wikimg.net/en/splatoonwiki/images/f/f5/S2_Stage_Arowana_Mall.png";
-            case "Goby Arena":
-                return "https://cdn.wikimg.net/en/splatoonwiki/images/d/d0/S2_Stage_Goby_Arena.png";
-            case "Piranha Pit":
-                return "https://cdn.wikimg.net/en/splatoonwiki/images/8/88/S2_Stage_Piranha_Pit.png";
-            case "Camp Triggerfish":
-                return "https://cdn.wikimg.net/en/splatoonwiki/images/e/ef/S2_Stage_Camp_Triggerfish.png";
-            case "Wahoo World":
-                return "https://cdn.wikimg.net/en/splatoonwiki/images/1/14/S2_Stage_Wahoo_World.png";
-            case "New Albacore Hotel":
-                return "https://cdn.wikimg.net/en/splatoonwiki/images/d/da/S2_Stage_New_Albacore_Hotel.png";
-            case "Ancho-V Games":
-                return "https://cdn.wikimg.net/en/splatoonwiki/images/2/20/S2_Stage_Ancho-V_Games.png";
-            default:
-                return "https://cdn.wikimg.net/en/splatoonwiki/images/1/10/S2_Stage_Skipper_Pavilion.png";
-        }
+        return S2_MAP_URLS.getOrDefault(map, S2_DEFAULT_URL);
     }
 
     /**
@@ -395,44 +380,52 @@ public class MapGenerator extends Section implements Command {
      * @param map the map to search for.
      */
     private String findS3MapURL(String map) {
-        switch (map) {
-            case "Scorch Gorge":
-                return "https://cdn.wikimg.net/en/splatoonwiki/images/1/1c/S3_Stage_Scorch_Gorge.png";
-            case "Eeltail Alley":
-                return "https://cdn.wikimg.net/en/splatoonwiki/images/7/7d/S3_Stage_Eeltail_Alley.png";
-            case "Hagglefish Market":
-                return "https://cdn.wikimg.net/en/splatoonwiki/images/a/ad/S3_Stage_Hagglefish_Market.png";
-            case "Undertow Spillway":
-                return "https://cdn.wikimg.net/en/splatoonwiki/images/a/ad/S3_Stage_Undertow_Spillway.png";
-            case "Mincemeat Metalworks":
-                return "https://cdn.wikimg.net/en/splatoonwiki/images/d/d1/S3_Stage_Mincemeat_Metalworks.png";
-            case "Hammerhead Bridge":
-                return "https://cdn.wikimg.net/en/splatoonwiki/images/9/94/S3_Stage_Hammerhead_Bridge.png";
-            case "Museum d'Alfonsino":
-                return "https://cdn.wikimg.net/en/splatoonwiki/images/6/6a/S3_Stage_Museum_d%27Alfonsino.png";
-            case "Mahi-Mahi Resort":
-                return "https://cdn.wikimg.net/en/splatoonwiki/images/6/6b/S3_Stage_Mahi-Mahi_Resort.png";
-            case "Inkblot Art Academy":
-                return "https://cdn.wikimg.net/en/splatoonwiki/images/4/45/S3_Stage_Inkblot_Art_Academy.png";
-            case "Sturgeon Shipyard":
-                return "https://cdn.wikimg.net/en/splatoonwiki/images/4/45/S3_Stage_Sturgeon_Shipyard.png";
-            case "MakoMart":
-                return "https://cdn.wikimg.net/en/splatoonwiki/images/4/47/S3_Stage_MakoMart.png";
-            case "Brinewater Springs":
-                return "https://cdn.wikimg.net/en/splatoonwiki/images/f/fc/S3_Stage_Brinewater_Springs.png";
-            case "Flounder Heights":
-                return "https://cdn.wikimg.net/en/splatoonwiki/images/2/23/S3_Stage_Flounder_Heights.png";
-            case "Um'ami Ruins":
-                return "https://cdn.wikimg.net/en/splatoonwiki/images/9/95/S3_Stage_Um%27ami_Ruins.png";
-            case "Manta Maria":
-                return "https://cdn.wikimg.net/en/splatoonwiki/images/8/86/S3_Stage_Manta_Maria.png";
-            case "Barnacle & Dime":
-                return "https://cdn.wikimg.net/en/splatoonwiki/images/2/2a/S3_Stage_Barnacle_%26_Dime.png";
-            case "Humpback Pump Track":
-                return "https://cdn.wikimg.net/en/splatoonwiki/images/5/57/S3_Stage_Humpback_Pump_Track.png";
-            default:
-                return "https://cdn.wikimg.net/en/splatoonwiki/images/7/71/S3_Stage_Wahoo_World.png";
+        return S3_MAP_URLS.getOrDefault(map, S3_DEFAULT_URL);
+    }
+
+    /**
+     * Picks the modes of a maplist by a partial Fisher-Yates shuffle,
+     * playing every ranked mode before repeating one and never
+     * playing a mode twice in a row.
+     * @param numMaps the amount of maps within the maplist.
+     * @param lastMode the mode played before the maplist, if any.
+     * @return the picked modes.
+     */
+    private List<String> pickModes(int numMaps, String lastMode) {
+        String[] modes = MODES.toArray(new String[0]);
+        List<String> picked = new ArrayList<>(numMaps);
+
+        int next = modes.length;
+        for (int i = 0; i < numMaps; i++) {
+            if (next == modes.length) {
+                next = 0;
+            }
+
+            // keep the previous mode out of a new round's first draw
+            int end = modes.length;
+            if (next == 0) {
+                for (int j = 0; j < end - 1; j++) {
+                    if (modes[j].equals(lastMode)) {
+                        modes[j] = modes[end - 1];
+                        modes[end - 1] = lastMode;
+                        break;
+                    }
+                }
+                if (modes[end - 1].equals(lastMode)) {
+                    end--;
+                }
+            }
+
+            int rIndex = next + Events.RANDOM_GENERATOR.nextInt(end - next);
+            String mode = modes[rIndex];
+            modes[rIndex] = modes[next];
+            modes[next++] = mode;
+
+            picked.add(mode);
+            lastMode = mode;
         }
+
+        return picked;
     }
 
     /**
@@ -499,66 +492,46 @@ public class MapGenerator extends Section implements Command {
         if (problemExists(sc, numMaps)) {
             return;
         }
-        sc.deferReply(false).queue();
-
-        int numModes = 0;
-        List<String> modes = new ArrayList<>();
-
-        String lastMode = "";
-        boolean oneModeFound = false;
 
+        List<String> modes = null;
         if (foundDraft != null) {
             GameProperties properties = foundDraft.getProperties();
-            oneModeFound = !properties.getGameType().equals(GameType.DRAFT)
+            boolean oneModeFound =
+                    !properties.getGameType().equals(GameType.DRAFT)
                     && !properties.getGameType().equals(GameType.RANKED);
             if (oneModeFound) {
-                lastMode = properties.getName();
+                modes = Collections.nCopies(numMaps, properties.getName());
             }
         }
+        if (modes == null) {
+            modes = pickModes(numMaps, "");
+        }
 
-        TreeMap<String, List<String>> legalMaps = getLegalMaps();
-        List<String> pastMaps = new ArrayList<>();
+        Map<String, List<String>> legalMaps = getLegalMaps();
+        Map<String, MapPool> pools = new HashMap<>();
+        Set<String> pastMaps = new HashSet<>();
+        List<String> pickedMaps = new ArrayList<>(numMaps);
+        MapHistory history = MapHistory.of(getPrefix());
 
-        int rIndex;
         List<MessageEmbed> matches = new ArrayList<>();
-        for (int i = 0; i < numMaps; i++) {
-            String currMode;
-            if (!oneModeFound) {
-                if (numModes == 0) {
-                    resetModes(modes);
-                    numModes = 4;
-                }
-
-                rIndex = Events.RANDOM_GENERATOR.nextInt(numModes);
-                currMode = modes.get(rIndex);
-                while (lastMode.equals(currMode)) {
-                    rIndex = Events.RANDOM_GENERATOR.nextInt(numModes);
-                    currMode = modes.get(rIndex);
-                }
-                lastMode = modes.remove(rIndex);
-                numModes--;
-            } else {
-                currMode = lastMode;
-            }
-
+        for (String currMode : modes) {
             List<String> modeMaps = legalMaps.get(currMode);
-            rIndex = Events.RANDOM_GENERATOR.nextInt(modeMaps.size());
-            String currMap = modeMaps.get(rIndex);
-            while (pastMaps.contains(currMap)) {
-                rIndex = Events.RANDOM_GENERATOR.nextInt(modeMaps.size());
-                currMap = modeMaps.get(rIndex);
+            String currMap = history.sample(Events.RANDOM_GENERATOR,
+                    currMode, modeMaps, pastMaps);
+            if (currMap == null) {
+                currMap = pools.computeIfAbsent(currMode,
+                        mode -> new MapPool(modeMaps)).draw(pastMaps);
             }
-            pastMaps.add(modeMaps.remove(rIndex));
+            pastMaps.add(currMap);
+            pickedMaps.add(currMap);
 
             matches.add(buildMatch(currMode, currMap).build());
         }
+        history.record(modes, pickedMaps);
 
         if (foundDraft != null) {
             sc.getHook().editOriginalEmbeds(matches).queue(
-                    message -> {
-                        message.pin().queue();
-                        wait(1000);
-                    });
+                    message -> message.pin().queue());
         } else {
             sc.getHook().editOriginalEmbeds(matches).queue();
         }
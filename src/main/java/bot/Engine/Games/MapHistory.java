@@ -0,0 +1,252 @@
+package bot.Engine.Games;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @author  Wil Aquino
+ * Date:    October 17, 2026
+ * Project: Libra
+ * Module:  MapHistory.java
+ * Purpose: Remembers a section's recently generated maps, so
+ *          later maplists favor the maps which were not played.
+ */
+public class MapHistory {
+
+    /** The amount of recent picks remembered per section. */
+    private static final int CAPACITY = 32;
+
+    /** The amount of weighted draws tried before drawing uniformly. */
+    private static final int ATTEMPTS = 3;
+
+    /** The histories, indexed by section prefix. */
+    private static final Map<String, MapHistory> HISTORIES =
+            new ConcurrentHashMap<>();
+
+    /** The modes of the recent picks, as a ring buffer. */
+    private final String[] recentModes;
+
+    /** The maps of the recent picks, as a ring buffer. */
+    private final String[] recentMaps;
+
+    /** The index of the oldest recent pick. */
+    private int oldest;
+
+    /** The amount of recent picks. */
+    private int size;
+
+    /** The times each map was recently picked, in any mode. */
+    private final Map<String, Integer> mapCounts;
+
+    /** The times each map was recently picked, by mode then map. */
+    private final Map<String, Integer> pickCounts;
+
+    /** The samplers of each mode, rebuilt when their weights change. */
+    private final Map<String, AliasSampler> samplers;
+
+    /** A weighted sampler of a mode's maps, by the alias method. */
+    private static class AliasSampler {
+
+        /** The maps sampled from. */
+        private final List<String> maps;
+
+        /** The chance of keeping each column's own map. */
+        private final double[] chances;
+
+        /** The map drawn instead of each column's own map. */
+        private final int[] aliases;
+
+        /** Whether a weight has changed since the sampler was built. */
+        private boolean stale;
+
+        /**
+         * Builds the sampler's columns by Vose's method.
+         * @param maps the maps sampled from.
+         * @param weights the weight of each map.
+         */
+        private AliasSampler(List<String> maps, double[] weights) {
+            this.maps = maps;
+            int n = weights.length;
+            chances = new double[n];
+            aliases = new int[n];
+
+            double total = 0;
+            for (double weight : weights) {
+                total += weight;
+            }
+
+            double[] scaled = new double[n];
+            Deque<Integer> small = new ArrayDeque<>();
+            Deque<Integer> large = new ArrayDeque<>();
+            for (int i = 0; i < n; i++) {
+                scaled[i] = weights[i] * n / total;
+                if (scaled[i] < 1) {
+                    small.push(i);
+                } else {
+                    large.push(i);
+                }
+            }
+
+            while (!small.isEmpty() && !large.isEmpty()) {
+                int less = small.pop();
+                int more = large.pop();
+                chances[less] = scaled[less];
+                aliases[less] = more;
+
+                scaled[more] += scaled[less] - 1;
+                if (scaled[more] < 1) {
+                    small.push(more);
+                } else {
+                    large.push(more);
+                }
+            }
+            while (!large.isEmpty()) {
+                chances[large.pop()] = 1;
+            }
+            while (!small.isEmpty()) {
+                chances[small.pop()] = 1;
+            }
+        }
+
+        /**
+         * Draws a map in constant time.
+         * @param random the random number generator to draw with.
+         */
+        private String draw(Random random) {
+            int column = random.nextInt(chances.length);
+            if (random.nextDouble() < chances[column]) {
+                return maps.get(column);
+            }
+
+            return maps.get(aliases[column]);
+        }
+    }
+
+    /** Constructs an empty history. */
+    private MapHistory() {
+        recentModes = new String[CAPACITY];
+        recentMaps = new String[CAPACITY];
+        mapCounts = new HashMap<>();
+        pickCounts = new HashMap<>();
+        samplers = new HashMap<>();
+    }
+
+    /**
+     * Retrieves the history of a section.
+     * @param prefix the prefix of the section.
+     */
+    public static MapHistory of(String prefix) {
+        return HISTORIES.computeIfAbsent(prefix, p -> new MapHistory());
+    }
+
+    /**
+     * Builds the key of a mode and map pair.
+     * @param mode the mode of the pick.
+     * @param map the map of the pick.
+     */
+    private static String pickKey(String mode, String map) {
+        return mode + "\n" + map;
+    }
+
+    /**
+     * Weighs a map, shrinking with each recent pick of it and
+     * doubly so for picks in the same mode.
+     * @param mode the mode being sampled for.
+     * @param map the map to weigh.
+     */
+    private double weigh(String mode, String map) {
+        return 1.0 / (1 + mapCounts.getOrDefault(map, 0)
+                + pickCounts.getOrDefault(pickKey(mode, map), 0));
+    }
+
+    /**
+     * Retrieves the sampler of a mode, rebuilding it if stale.
+     * @param mode the mode to sample for.
+     * @param legalMaps the legal maps of the mode.
+     */
+    private AliasSampler samplerFor(String mode, List<String> legalMaps) {
+        AliasSampler sampler = samplers.get(mode);
+        if (sampler == null || sampler.stale || sampler.maps != legalMaps) {
+            double[] weights = new double[legalMaps.size()];
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] = weigh(mode, legalMaps.get(i));
+            }
+
+            sampler = new AliasSampler(legalMaps, weights);
+            samplers.put(mode, sampler);
+        }
+
+        return sampler;
+    }
+
+    /**
+     * Draws a map for a mode, favoring maps not recently played.
+     * @param random the random number generator to draw with.
+     * @param mode the mode to draw for.
+     * @param legalMaps the legal maps of the mode.
+     * @param played the maps already in the maplist.
+     * @return the drawn map.
+     *         null if every draw was already in the maplist.
+     */
+    public synchronized String sample(Random random, String mode,
+                                      List<String> legalMaps,
+                                      Set<String> played) {
+        AliasSampler sampler = samplerFor(mode, legalMaps);
+        for (int i = 0; i < ATTEMPTS; i++) {
+            String map = sampler.draw(random);
+            if (!played.contains(map)) {
+                return map;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Adjusts the recent pick counts of a map, marking the
+     * samplers holding it as stale.
+     * @param mode the mode of the pick.
+     * @param map the map of the pick.
+     * @param change the amount to adjust the counts by.
+     */
+    private void count(String mode, String map, int change) {
+        mapCounts.merge(map, change, Integer::sum);
+        mapCounts.remove(map, 0);
+        pickCounts.merge(pickKey(mode, map), change, Integer::sum);
+        pickCounts.remove(pickKey(mode, map), 0);
+
+        for (AliasSampler sampler : samplers.values()) {
+            if (!sampler.stale && sampler.maps.contains(map)) {
+                sampler.stale = true;
+            }
+        }
+    }
+
+    /**
+     * Remembers a generated maplist, forgetting the oldest
+     * picks once the history is full.
+     * @param modes the modes of the maplist.
+     * @param maps the maps of the maplist.
+     */
+    public synchronized void record(List<String> modes, List<String> maps) {
+        for (int i = 0; i < modes.size(); i++) {
+            int slot = (oldest + size) % CAPACITY;
+            if (size == CAPACITY) {
+                count(recentModes[slot], recentMaps[slot], -1);
+                oldest = (oldest + 1) % CAPACITY;
+            } else {
+                size++;
+            }
+
+            recentModes[slot] = modes.get(i);
+            recentMaps[slot] = maps.get(i);
+            count(modes.get(i), maps.get(i), 1);
+        }
+    }
+}
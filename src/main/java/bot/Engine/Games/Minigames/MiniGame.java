@@ -12,11 +12,13 @@ import net.dv8tion.jda.api.entities.TextChannel;
 import net.dv8tion.jda.api.events.interaction.ButtonClickEvent;
 import net.dv8tion.jda.api.events.interaction.GenericInteractionCreateEvent;
 import net.dv8tion.jda.api.events.interaction.SlashCommandEvent;
+import net.dv8tion.jda.api.interactions.components.ActionRow;
 import net.dv8tion.jda.api.interactions.components.Button;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author  Wil Aquino
@@ -38,6 +40,9 @@ public class MiniGame extends Game<MiniGame, MiniProcess, Team<Player>, Player>
      * @param draft the numbered draft that this minigame is.
      * @param abbreviation the abbreviation of the section.
      * @param initialPlayer the first player of the minigame queue.
+     *
+     * Note: Throws an IllegalStateException if the first player
+     *       joined another draft in the meantime.
      */
     public MiniGame(SlashCommandEvent sc, GameType type, int draft,
                     String abbreviation, Member initialPlayer) {
@@ -49,6 +54,10 @@ public class MiniGame extends Game<MiniGame, MiniProcess, Team<Player>, Player>
         getPlayers().put(playerID, new Player(
                 initialPlayer.getEffectiveName(),false));
         getHistory().add(playerID);
+        if (!PlayerIndex.claim(playerID, this)) {
+            throw new IllegalStateException(
+                    "The first player is already in another draft.");
+        }
 
         cappedSize = getProperties().getMaximumPlayersToStart();
     }
@@ -97,13 +106,12 @@ public class MiniGame extends Game<MiniGame, MiniProcess, Team<Player>, Player>
 
     /**
      * Checks whether the request has timed out or not.
-     * @param interaction the user interaction calling this method.
      * @return True if the request expired.
      *         False otherwise.
      */
     @Override
-    public boolean timedOut(GenericInteractionCreateEvent interaction) {
-        return super.timedOut(interaction);
+    public boolean timedOut() {
+        return super.timedOut();
     }
 
     /** Starts the minigame's process. */
@@ -186,12 +194,11 @@ public class MiniGame extends Game<MiniGame, MiniProcess, Team<Player>, Player>
         getProcess().toggle(true);
         getProcess().refresh(null);
 
-        wait(4000);
-
         List<MessageEmbed> profiles = new Profile().viewMultiple(bc,
                 getPlayers().keySet(), "Their", false, true, false);
         if (profiles != null) {
-            getDraftChannel().sendMessageEmbeds(profiles).queue();
+            getDraftChannel().sendMessageEmbeds(profiles)
+                    .queueAfter(4, TimeUnit.SECONDS);
         }
     }
 
@@ -209,6 +216,9 @@ public class MiniGame extends Game<MiniGame, MiniProcess, Team<Player>, Player>
         } else if (getPlayers().containsKey(playerID)) {
             sendReply(bc, "You are already in this draft!", true);
             return;
+        } else if (!PlayerIndex.claim(playerID, this)) {
+            sendReply(bc, "You are already in a draft!", true);
+            return;
         } else if (!getHistory().contains(playerID)) {
             if (getPlayers().size()
                     == getProperties().getMaximumPlayersToStart() - 2) {
@@ -264,6 +274,7 @@ public class MiniGame extends Game<MiniGame, MiniProcess, Team<Player>, Player>
             sendReply(bc, "You are not in this draft!", true);
         } else {
             getPlayers().remove(playerID);
+            PlayerIndex.release(playerID, this);
 
             if (getPlayers().size() < getProperties().getMinimumPlayersToStart()) {
                 List<Button> buttons = new ArrayList<>();
@@ -284,12 +295,11 @@ public class MiniGame extends Game<MiniGame, MiniProcess, Team<Player>, Player>
      * Refreshes the minigame request's caption.
      * @param bc a button click to analyze.
      *
-     * Note: The interaction must not have been acknowledged
+     * Note: The interaction must have been acknowledged
      *       before this method.
      */
     @Override
     public void refresh(ButtonClickEvent bc) {
-        bc.deferEdit().queue();
         setMessageID(bc.getMessageId());
 
         int activePlayers = getPlayers().size() - getNumInactive();
@@ -421,7 +431,8 @@ public class MiniGame extends Game<MiniGame, MiniProcess, Team<Player>, Player>
                 + (getProperties().getMaximumPlayersToStart() - 1)
                 + " (" + getProperties().getName() + ")";
 
-        sc.reply(caption).addActionRow(buttons).queue();
+        sc.getHook().editOriginal(caption)
+                .setActionRows(ActionRow.of(buttons)).queue();
         updateReport(sc);
 
         log("A " + getPrefix().toUpperCase()
@@ -5,6 +5,7 @@ import bot.Engine.Games.Process;
 import bot.Engine.Games.Team;
 import bot.Engine.Templates.ProcessReqs;
 import bot.Tools.Components;
+import bot.Tools.EditCoalescer;
 
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.entities.TextChannel;
@@ -14,6 +15,7 @@ import net.dv8tion.jda.api.interactions.components.ActionRow;
 import net.dv8tion.jda.api.interactions.components.Button;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -167,18 +169,16 @@ public class MiniProcess extends Process<MiniGame, Team<Player>, Player>
                 .refresh(getRequest().suffix()));
 
         if (interaction != null) {
-            interaction.getHook().editOriginal(getPing()).setActionRows(
-                    ActionRow.of(buttons)).queue();
-            updateReport(interaction);
+            EditCoalescer.getInstance().edit(interaction, getPing(),
+                    Collections.singletonList(
+                            buildSummary(new EmbedBuilder()).build()),
+                    ActionRow.of(buttons));
         } else {
             TextChannel channel = getRequest().getDraftChannel();
             channel.sendMessage(getPing()).setEmbeds(
                     buildSummary(new EmbedBuilder()).build()).setActionRows(
                     ActionRow.of(buttons)).queue(
-                            message -> {
-                                message.pin().queue();
-                                getRequest().wait(1000);
-                            });
+                            message -> message.pin().queue());
         }
     }
 
@@ -206,8 +206,6 @@ public class MiniProcess extends Process<MiniGame, Team<Player>, Player>
                 - nextButtonClicked.size();
 
         if (numClicksLeft <= 0) {
-            bc.deferEdit().queue();
-
             rotateTeams();
             incrementTurn(bc);
             resetNextButtonClicked();
@@ -0,0 +1,62 @@
+package bot.Engine.Games;
+
+import bot.Engine.Templates.GameReqs;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @author  Wil Aquino
+ * Date:    October 17, 2026
+ * Project: Libra
+ * Module:  PlayerIndex.java
+ * Purpose: Tracks which draft each active player is in,
+ *          across every section.
+ */
+public class PlayerIndex {
+
+    /** The draft of each active player, indexed by Discord ID. */
+    private static final Map<String, GameReqs> ACTIVE_PLAYERS =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Retrieves the draft a player is active in.
+     * @param playerID the Discord ID of the player.
+     * @return said draft.
+     *         null if they are not active in any draft.
+     */
+    public static GameReqs find(String playerID) {
+        return ACTIVE_PLAYERS.get(playerID);
+    }
+
+    /**
+     * Marks a player as active in a draft.
+     * @param playerID the Discord ID of the player.
+     * @param draft the draft they are joining.
+     * @return True if they were free to join, or already in this draft.
+     *         False if they are active in another draft.
+     */
+    public static boolean claim(String playerID, GameReqs draft) {
+        GameReqs found = ACTIVE_PLAYERS.putIfAbsent(playerID, draft);
+        return found == null || found == draft;
+    }
+
+    /**
+     * Marks a player as no longer active in a draft.
+     * @param playerID the Discord ID of the player.
+     * @param draft the draft they are leaving.
+     */
+    public static void release(String playerID, GameReqs draft) {
+        ACTIVE_PLAYERS.remove(playerID, draft);
+    }
+
+    /**
+     * Marks every player of a draft as no longer active in it.
+     * @param draft the draft which ended.
+     */
+    public static void releaseAll(GameReqs draft) {
+        for (String playerID : draft.getPlayers().keySet()) {
+            release(playerID, draft);
+        }
+    }
+}
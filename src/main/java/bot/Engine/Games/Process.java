@@ -2,6 +2,7 @@ package bot.Engine.Games;
 
 import bot.Engine.Profiles.*;
 import bot.Tools.Components;
+import bot.Tools.EditCoalescer;
 
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.entities.Message;
@@ -298,7 +299,7 @@ public class Process<G extends Game<?, ?, T, P>, T extends Team<P>, P extends Pl
     public void randomizeBalancedTeams(ButtonClickEvent bc) {
         Profile profiles = new Profile();
         TreeMap<Object, Object> database =
-                profiles.onlyGetDatabase(bc, null);
+                profiles.onlyGetDatabase(bc);
 
         getTeam1().clear();
         getTeam2().clear();
@@ -431,7 +432,6 @@ public class Process<G extends Game<?, ?, T, P>, T extends Team<P>, P extends Pl
      */
     public boolean attemptedToChangePoints(ButtonClickEvent bc, String authorID,
                                            boolean increment, String errorMsg) {
-        bc.deferEdit().queue();
         resetEndDraftButton();
 
         P author = getRequest().getPlayers().get(authorID);
@@ -457,8 +457,6 @@ public class Process<G extends Game<?, ?, T, P>, T extends Team<P>, P extends Pl
      *         False otherwise.
      */
     public boolean hasEnded(ButtonClickEvent bc) {
-        bc.deferEdit().queue();
-
         String authorID = bc.getMember().getId();
         setMessageID(bc.getMessageId());
 
@@ -478,6 +476,8 @@ public class Process<G extends Game<?, ?, T, P>, T extends Team<P>, P extends Pl
 
         if (numClicksLeft <= 0) {
             getRequest().toggle(false);
+            EditCoalescer.getInstance().discard(bc.getMessageId());
+            EditCoalescer.getInstance().discard(getRequest().getMessageID());
 
             if (hasStarted()) {
                 getRequest().unpinDraftChannelPins();
@@ -501,8 +501,7 @@ public class Process<G extends Game<?, ?, T, P>, T extends Team<P>, P extends Pl
                 getRequest().unpinDraftChannelPins();
                 getMessage().delete().queue();
 
-                String idSuffix = getRequest().getPrefix()
-                        + getRequest().getNumDraft();
+                String idSuffix = getRequest().suffix();
 
                 getRequest().getDraftChannel().sendMessage(
                         "The draft has ended. Sorry about the early stop! "
@@ -2,17 +2,20 @@ package bot.Engine;
 
 import bot.Engine.Templates.Command;
 import bot.Tools.GoogleSheetsAPI;
+import bot.Tools.RolePlan;
+import bot.Tools.SectionView;
 
 import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Role;
 import net.dv8tion.jda.api.events.interaction.SlashCommandEvent;
 import net.dv8tion.jda.api.interactions.commands.OptionMapping;
 
 import com.google.api.services.sheets.v4.model.ValueRange;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Arrays;
-import java.util.TreeMap;
 import java.io.IOException;
 import java.security.GeneralSecurityException;
 
@@ -56,54 +59,45 @@ public class Graduate extends Section implements Command {
 
     /**
      * Graduates a user within MIT.
-     * @param sc the user's inputted command.
-     * @param playerID the Discord ID of the player to graduate.
-     * @return a graduation congratulation message.
+     * @param player the player to graduate.
+     * @param plan the plan to add the player's role changes to.
+     * @param rolesToAdd the roles every graduate is given.
+     * @param rolesToRemove the roles every graduate loses.
+     * @param link a link to the graduates spreadsheet.
+     * @param data the graduates spreadsheet's rows.
      */
-    private String graduate(SlashCommandEvent sc, String playerID,
-                            GoogleSheetsAPI link,
-                            TreeMap<Object, Object> data) throws IOException {
-        String rulesChannel;
-        String exitMessage;
+    private void graduate(Member player, RolePlan plan,
+                          List<Role> rolesToAdd, List<Role> rolesToRemove,
+                          GoogleSheetsAPI link,
+                          SectionView data) throws IOException {
+        plan.change(player, rolesToAdd, rolesToRemove);
 
+        if (!data.containsKey(player.getId())) {
+            ValueRange newRow = link.buildRow(Arrays.asList(
+                        player.getId(), player.getUser().getAsTag(),
+                        player.getEffectiveName()));
+            link.appendRow(TAB, newRow);
+        }
+    }
+
+    /**
+     * Retrieves the message given to graduates.
+     * @param sc the user's inputted command.
+     */
+    private String getExitMessage(SlashCommandEvent sc) {
         switch (getPrefix()) {
             case "fs":
             case "lp":
-                modifyRoles(sc, playerID,
-                        Arrays.asList(
-                                getRole(sc, getSection() + " Graduate"),
-                                getRole(sc, getNextSection())),
-                        Collections.singletonList(
-                                getRole(sc, getSection())));
-
-                rulesChannel = getChannel(sc, getNextPrefix()
+                String rulesChannel = getChannel(sc, getNextPrefix()
                         + "-draft-rules").getAsMention();
-                exitMessage = "Congratulations! We look forward to seeing "
+                return "Congratulations! We look forward to seeing "
                         + "you in " + getNextSection() + ". Make sure to "
                         + "to read " + rulesChannel + " before playing "
                         + "in any drafts!";
-                break;
             default:
-                modifyRoles(sc, playerID,
-                        Collections.singletonList(
-                                getRole(sc, getSection() + " Graduate")),
-                        Collections.singletonList(
-                                getRole(sc, getSection())));
-
-                exitMessage = "Congratulations! We look forward to "
+                return "Congratulations! We look forward to "
                         + "seeing you beyond MIT.";
-                break;
         }
-
-        if (!data.containsKey(playerID)) {
-            Member player = findMember(sc, playerID);
-            ValueRange newRow = link.buildRow(Arrays.asList(
-                        playerID, player.getUser().getAsTag(),
-                        player.getEffectiveName()));
-            link.appendRow(TAB, newRow);
-        }
-
-        return exitMessage;
     }
 
     /**
@@ -112,20 +106,27 @@ public class Graduate extends Section implements Command {
      */
     @Override
     public void runCmd(SlashCommandEvent sc) {
-        sc.deferReply(false).queue();
         List<OptionMapping> args = sc.getOptions();
 
         try {
-            GoogleSheetsAPI link = new GoogleSheetsAPI(gradSheetID());
-            TreeMap<Object, Object> data = link.readSection(sc, TAB);
+            GoogleSheetsAPI link = GoogleSheetsAPI.linkTo(gradSheetID());
+            SectionView data = link.viewSection(sc, TAB, "A");
+
+            List<Role> rolesToAdd = new ArrayList<>();
+            rolesToAdd.add(getRole(sc, getSection() + " Graduate"));
+            if (getPrefix().equals("fs") || getPrefix().equals("lp")) {
+                rolesToAdd.add(getRole(sc, getNextSection()));
+            }
+            List<Role> rolesToRemove =
+                    Collections.singletonList(getRole(sc, getSection()));
+            String exitMessage = getExitMessage(sc);
 
+            RolePlan plan = new RolePlan();
             StringBuilder listOfUsers = new StringBuilder();
             for (OptionMapping om : args) {
                 Member player = om.getAsMember();
-                String exitMessage = graduate(sc, player.getId(), link, data);
-                if (exitMessage == null) {
-                    throw new IOException();
-                }
+                graduate(player, plan, rolesToAdd, rolesToRemove,
+                        link, data);
 
                 Member finalUser = args.get(args.size() - 1).getAsMember();
                 if (player.getId().equals(finalUser.getId())) {
@@ -137,7 +138,16 @@ public class Graduate extends Section implements Command {
                 }
             }
 
-            editMessage(sc, listOfUsers.toString());
+            plan.apply(sc.getGuild(), (updated, total) -> editMessage(sc,
+                    "Updating roles... (" + updated + "/" + total + ")"))
+                    .thenAccept(failures -> {
+                        if (failures > 0) {
+                            listOfUsers.append("\n\n").append(failures)
+                                    .append(" player(s) could not be updated.");
+                        }
+
+                        editMessage(sc, listOfUsers.toString());
+                    });
             log(args.size() + " " + getSection() + " graduate(s) processed.", false);
         } catch (IOException | GeneralSecurityException e) {
             editMessage(sc, "The spreadsheet could not load.");
@@ -65,9 +65,11 @@ public class PlayerInfo {
         } catch (IndexOutOfBoundsException | NumberFormatException e) {
             Logger logger = LoggerFactory.getLogger(this.getClass());
             logger.error("Spreadsheet formatting problem detected.");
-            interaction.getHook().sendMessage(
-                    "***There seems to be a formatting problem within the "
-                            + "spreadsheet.*** Please fix it!").queue();
+            if (interaction != null) {
+                interaction.getHook().sendMessage(
+                        "***There seems to be a formatting problem within the "
+                                + "spreadsheet.*** Please fix it!").queue();
+            }
         }
     }
 
@@ -1,14 +1,11 @@
 package bot.Engine.Profiles;
 
-import bot.Config;
+import bot.Engine.Cycles.Leaderboard;
 import bot.Engine.Cycles.PlayerStats;
-import bot.Engine.Section;
 import bot.Main;
 import bot.Engine.Templates.Command;
-import bot.Tools.FileHandler;
-import bot.Tools.GoogleSheetsAPI;
-
-import com.google.api.services.sheets.v4.model.ValueRange;
+import bot.Tools.ProfanityFilter;
+import bot.Tools.Resolver;
 
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.entities.Member;
@@ -24,9 +21,12 @@ import java.security.GeneralSecurityException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Collections;
 import java.util.TreeMap;
-import java.util.regex.Matcher;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.regex.Pattern;
 
 /**
@@ -38,17 +38,16 @@ import java.util.regex.Pattern;
  */
 public class Profile implements Command {
 
-    /** Google Sheets ID of the spreadsheet to save to. */
-    private static final String spreadsheetID = Config.mitProfilesSheetID;
-
-    /** The spreadsheet's starting column with profile information. */
-    private static final String START_COLUMN = "B";
-
-    /** The spreadsheet's ending column with profile information. */
-    private static final String END_COLUMN = "I";
+    /** Maximum amount of profiles built at once. */
+    private static final int MAX_RENDERERS = 4;
 
-    /** The tab name of the spreadsheet. */
-    private static final String TAB = "Profiles";
+    /** The threads which build profiles, shared by every lookup. */
+    private static final ExecutorService RENDERERS =
+            Executors.newFixedThreadPool(MAX_RENDERERS, task -> {
+                Thread renderer = new Thread(task, "libra-profiles");
+                renderer.setDaemon(true);
+                return renderer;
+            });
 
     /** A pattern for friend codes to follow. */
     private static final Pattern FC_PATTERN = Pattern.compile(
@@ -120,25 +119,7 @@ public class Profile implements Command {
      *         False otherwise.
      */
     private boolean blacklistedPhrase(String phrase) {
-        if (phrase == null) {
-            return false;
-        }
-
-        FileHandler badWordFile = new FileHandler("badwords.txt");
-        phrase = phrase.toLowerCase();
-
-        for (String badRegex : badWordFile.readContents()) {
-            Pattern pattern = Pattern.compile(badRegex,
-                    Pattern.CASE_INSENSITIVE | Pattern.MULTILINE
-                    | Pattern.UNICODE_CHARACTER_CLASS);
-            Matcher matcher = pattern.matcher(phrase);
-
-            if (matcher.find()) {
-                return true;
-            }
-        }
-
-        return false;
+        return ProfanityFilter.getInstance().matches(phrase);
     }
 
     /**
@@ -221,18 +202,13 @@ public class Profile implements Command {
     /**
      * Retrieves the Profiles database.
      * @param interaction the user interaction calling this method.
-     * @param link a link to the Profiles spreadsheet.
      * @return the database.
      *         null otherwise.
      */
     public TreeMap<Object, Object> onlyGetDatabase(
-            GenericInteractionCreateEvent interaction,
-            GoogleSheetsAPI link) {
+            GenericInteractionCreateEvent interaction) {
         try {
-            if (link == null) {
-                link = new GoogleSheetsAPI(spreadsheetID);
-            }
-            return link.readSection(interaction, TAB);
+            return ProfileDatabase.getInstance().getDatabase(interaction);
         } catch (IOException | GeneralSecurityException e) {
             log("The profiles spreadsheet could not load.", true);
             return null;
@@ -348,8 +324,6 @@ public class Profile implements Command {
      * @param sc the user's inputted command.
      */
     private void quickRegister(SlashCommandEvent sc) {
-        sc.deferReply(true).queue();
-
         List<OptionMapping> args = sc.getOptions();
         String fc = (String) getParameter(args, false);
         String nickname = (String) getParameter(args, false);
@@ -359,8 +333,8 @@ public class Profile implements Command {
         String rank = (String) getParameter(args, false);
 
         try {
-            GoogleSheetsAPI link = new GoogleSheetsAPI(spreadsheetID);
-            TreeMap<Object, Object> database = link.readSection(sc, TAB);
+            ProfileDatabase profiles = ProfileDatabase.getInstance();
+            TreeMap<Object, Object> database = profiles.getDatabase(sc);
             if (database.containsKey(sc.getMember().getId())) {
                 editMessage(sc, "You cannot use `qprofile`, because your "
                                 + "profile already exists. Use the other "
@@ -370,11 +344,10 @@ public class Profile implements Command {
                 Member user = sc.getMember();
                 String discordTag = user.getUser().getAsTag();
 
-                ValueRange newRow = link.buildRow(Arrays.asList(
-                        user.getId(), discordTag, nickname,
+                profiles.save(user.getId(), Arrays.asList(
+                        discordTag, nickname,
                         fc, reformatPhrase(pronouns.toLowerCase(), 1),
                         playstyle, reformatPhrase(weapons, 0), rank, "N/A"));
-                link.appendRow(TAB, newRow);
 
                 editMessage(sc, "Your MIT profile has been created! "
                         + "Use `/mit profile view` to view your profile.");
@@ -393,26 +366,20 @@ public class Profile implements Command {
      * @param fc the player's Nintendo Switch friend code.
      */
     private void register(SlashCommandEvent sc, String fc) {
-        sc.deferReply(true).queue();
-
         try {
-            GoogleSheetsAPI link = new GoogleSheetsAPI(spreadsheetID);
-            TreeMap<Object, Object> database = link.readSection(sc, TAB);
+            ProfileDatabase profiles = ProfileDatabase.getInstance();
+            TreeMap<Object, Object> database = profiles.getDatabase(sc);
 
             Member user = sc.getMember();
             if (noParameterError(sc, fc, null, null, null, null)) {
                 if (database.containsKey(user.getId())) {
                     PlayerInfo profile = lookup(user.getId(), database);
 
-                    String updateRange = link.buildRange(TAB,
-                            START_COLUMN, profile.getSpreadsheetPosition(),
-                            END_COLUMN, profile.getSpreadsheetPosition());
-                    ValueRange newRow = link.buildRow(Arrays.asList(
+                    profiles.save(user.getId(), Arrays.asList(
                             profile.getTag(), profile.getNickname(),
-                            fc, profile.getPlaystyle(),
+                            fc, profile.getPronouns(), profile.getPlaystyle(),
                             profile.getWeaponPool(), profile.getRank(),
                             profile.getTeam()));
-                    link.updateRange(updateRange, newRow);
 
                     editMessage(sc,
                             "Friend code updated to `" + "`.");
@@ -421,11 +388,10 @@ public class Profile implements Command {
                 } else {
                     String discordTag = user.getUser().getAsTag();
 
-                    ValueRange newRow = link.buildRow(Arrays.asList(
-                            user.getId(), discordTag, user.getEffectiveName(),
+                    profiles.save(user.getId(), Arrays.asList(
+                            discordTag, user.getEffectiveName(),
                             fc, "Unset",
                             "Unset", "Unset", "Unset", "N/A"));
-                    link.appendRow(TAB, newRow);
 
                     editMessage(sc, "Your MIT profile has been created! "
                             + "Use `/mit profile view` to view your profile.");
@@ -444,11 +410,9 @@ public class Profile implements Command {
      * @param id a player's Discord ID.
      */
     private void onlyGetFC(SlashCommandEvent sc, String id) {
-        sc.deferReply(false).queue();
-
         try {
-            GoogleSheetsAPI link = new GoogleSheetsAPI(spreadsheetID);
-            TreeMap<Object, Object> database = link.readSection(sc, TAB);
+            TreeMap<Object, Object> database =
+                    ProfileDatabase.getInstance().getDatabase(sc);
             String pronoun = null;
 
             if (id == null) {
@@ -478,22 +442,22 @@ public class Profile implements Command {
     }
 
     /**
-     * Retrieves a section's spreadsheet ID to reference, if any.
+     * Retrieves the prefix of a player's leaderboard section, if any.
      * @param interaction the user interaction calling this method.
      * @param eb the pre-built embed to reference.
      * @param roles a player's roles.
      */
-    private String getSpreadsheetID(GenericInteractionCreateEvent interaction,
-                              EmbedBuilder eb, List<Role> roles) {
+    private String getLeaderboardPrefix(GenericInteractionCreateEvent interaction,
+                                        EmbedBuilder eb, List<Role> roles) {
         if (roles.contains(getRole(interaction, "Freshwater Shoals"))) {
             eb.setColor(Main.freshwatershoalsColor);
             return null;
         } else if (roles.contains(getRole(interaction, "LaunchPoint"))) {
             eb.setColor(Main.launchpointColor);
-            return Config.lpCyclesSheetID;
+            return "lp";
         } else if (roles.contains(getRole(interaction, "Ink Odyssey"))) {
             eb.setColor(Main.inkodysseyColor);
-            return Config.ioCyclesSheetID;
+            return "io";
         } else if (roles.contains(getRole(interaction, "Ink Odyssey Graduate"))) {
             eb.setColor(Main.inkodysseygraduateColor);
             return null;
@@ -508,21 +472,19 @@ public class Profile implements Command {
      * draft section, if it exists.
      * @param interaction the user interaction calling this method.
      * @param id the player's Discord ID.
-     * @param leaderboardID the leaderboard spreadsheet ID to reference.
+     * @param prefix the prefix of the leaderboard section to reference.
      */
     private String getScore(GenericInteractionCreateEvent interaction,
-                            String id, String leaderboardID) {
-        if (leaderboardID == null) {
+                            String id, String prefix) {
+        if (prefix == null) {
             return "N/A";
         }
 
         try {
-            GoogleSheetsAPI link = new GoogleSheetsAPI(leaderboardID);
-            TreeMap<Object, Object> leaderboard =
-                    link.readSection(interaction, Section.CYCLES_TAB);
+            PlayerStats stats =
+                    Leaderboard.of(prefix).getStats(interaction, id);
 
-            if (leaderboard.containsKey(id)) {
-                PlayerStats stats = (PlayerStats) leaderboard.get(id);
+            if (stats != null) {
                 return String.format(
                         "%s-%s", stats.getSetWins(), stats.getSetLosses());
             } else {
@@ -539,23 +501,21 @@ public class Profile implements Command {
      * @param interaction the user interaction calling this method.
      * @param pronoun the player's neutral pronoun.
      * @param id the player's Discord ID.
+     * @param player the player's server membership.
      * @param profile the player's profile.
      * @param fullDisplay a flag for knowing whether to display
      *                    the entire profile or not.
      * @param showInfo a flag for checking whether to show a player's
      *                 additional info or not.
-     * @param shouldPrint a flag for checking whether the profile
-     *                   should be printed immediately or not.
      * @return the pre-built summary.
      */
     private EmbedBuilder buildProfile(GenericInteractionCreateEvent interaction,
-                                      String pronoun, String id, PlayerInfo profile,
-                                      boolean fullDisplay, boolean showInfo,
-                                      boolean shouldPrint) {
+                                      String pronoun, String id, Member player,
+                                      PlayerInfo profile, boolean fullDisplay,
+                                      boolean showInfo) {
         EmbedBuilder eb = new EmbedBuilder();
-        Member player = findMember(interaction, id);
 
-        String leaderboardID = getSpreadsheetID(
+        String prefix = getLeaderboardPrefix(
                 interaction, eb, player.getRoles());
         if (profile == null) {
             eb.setTitle(player.getEffectiveName()
@@ -577,16 +537,12 @@ public class Profile implements Command {
             eb.addField("Weapon Pool", "`" + profile.getWeaponPool() + "`", true);
             if (fullDisplay) {
                 eb.addField("Score",
-                        getScore(interaction, id, leaderboardID), true);
+                        getScore(interaction, id, prefix), true);
                 eb.addField("Team", profile.getTeam(), true);
                 eb.addField("Rank", profile.getRank(), true);
             }
         }
 
-        if (shouldPrint) {
-            sendEmbed(interaction, eb);
-        }
-
         return eb;
     }
 
@@ -606,18 +562,38 @@ public class Profile implements Command {
                                            boolean fullDisplay, boolean showInfo,
                                            boolean shouldPrint) {
         try {
-            GoogleSheetsAPI link = new GoogleSheetsAPI(spreadsheetID);
-            TreeMap<Object, Object> database = link.readSection(interaction, TAB);
-            List<MessageEmbed> profiles = new ArrayList<>();
-            if (pronoun == null) {
-                pronoun = "Their";
-            }
+            TreeMap<Object, Object> database =
+                    ProfileDatabase.getInstance().getDatabase(interaction);
+            String neutralPronoun = pronoun == null ? "Their" : pronoun;
+
+            List<String> playerIDs = new ArrayList<>();
+            ids.forEach(playerIDs::add);
+            Map<String, Member> members = Resolver.getInstance()
+                    .findMembers(interaction.getGuild(), playerIDs);
+
+            List<CompletableFuture<EmbedBuilder>> builds = new ArrayList<>();
+            for (String id : playerIDs) {
+                Member player = members.get(id);
+                if (player == null) {
+                    log("A profile's user could not be found.", true);
+                    continue;
+                }
 
-            for (String id : ids) {
                 PlayerInfo profile = lookup(id, database);
+                builds.add(CompletableFuture.supplyAsync(
+                        () -> buildProfile(interaction, neutralPronoun, id,
+                                player, profile, fullDisplay, showInfo),
+                        RENDERERS));
+            }
 
-                profiles.add(buildProfile(interaction, pronoun, id,
-                        profile, fullDisplay, showInfo, shouldPrint).build());
+            List<MessageEmbed> profiles = new ArrayList<>();
+            for (CompletableFuture<EmbedBuilder> build : builds) {
+                EmbedBuilder eb = build.join();
+                if (shouldPrint) {
+                    sendEmbed(interaction, eb);
+                }
+
+                profiles.add(eb.build());
             }
 
             return profiles;
@@ -649,7 +625,7 @@ public class Profile implements Command {
                     Collections.singleton(id), "Your",
                     fullDisplay, showInfo, shouldPrint);
 
-            if (profiles != null) {
+            if (profiles != null && !profiles.isEmpty()) {
                 return profiles.remove(0);
             }
         } else {
@@ -657,7 +633,7 @@ public class Profile implements Command {
                     Collections.singleton(id), "Their",
                     fullDisplay, showInfo, shouldPrint);
 
-            if (profiles != null) {
+            if (profiles != null && !profiles.isEmpty()) {
                 return profiles.remove(0);
             }
         }
@@ -733,25 +709,18 @@ public class Profile implements Command {
     private void setField(SlashCommandEvent sc,
                           String nickname, String pronouns, String playstyle,
                           String weapons, String rank, String team) {
-        sc.deferReply(true).queue();
-
         try {
-            GoogleSheetsAPI link = new GoogleSheetsAPI(spreadsheetID);
-            TreeMap<Object, Object> database = link.readSection(sc, TAB);
+            ProfileDatabase profiles = ProfileDatabase.getInstance();
+            TreeMap<Object, Object> database = profiles.getDatabase(sc);
 
             if (noParameterError(sc, null, nickname, pronouns, weapons, team)) {
                 if (database.containsKey(sc.getMember().getId())) {
                     PlayerInfo profile = lookup(sc.getMember().getId(), database);
 
-                    String updateRange = link.buildRange(TAB,
-                            START_COLUMN, profile.getSpreadsheetPosition(),
-                            END_COLUMN, profile.getSpreadsheetPosition());
                     List<Object> updatedRow = withNewInfo(profile, nickname,
                             pronouns, playstyle, weapons, rank, team);
                     String changedField = (String) updatedRow.remove(0);
-
-                    ValueRange newRow = link.buildRow(updatedRow);
-                    link.updateRange(updateRange, newRow);
+                    profiles.save(sc.getMember().getId(), updatedRow);
 
                     String cmd = sc.getSubcommandName();
                     editMessage(sc, "Your " + cmd + " has been updated to `"
@@ -774,17 +743,9 @@ public class Profile implements Command {
      * @param sc the user's inputted command.
      */
     private void delete(SlashCommandEvent sc) {
-        sc.deferReply(true).queue();
-
         try {
-            GoogleSheetsAPI link = new GoogleSheetsAPI(spreadsheetID);
-            TreeMap<Object, Object> database = link.readSection(sc, TAB);
-
             String userID = sc.getMember().getId();
-            if (database.containsKey(userID)) {
-                PlayerInfo profile = lookup(userID, database);
-                link.deleteRow(TAB, profile.getSpreadsheetPosition());
-
+            if (ProfileDatabase.getInstance().delete(userID)) {
                 editMessage(sc, "Your MIT profile has been deleted.");
                 log("Profile deleted for " + sc.getUser().getAsTag()
                         + ".", false);
@@ -821,7 +782,6 @@ public class Profile implements Command {
                 }
                 break;
             case "view":
-                sc.deferReply(false).queue();
                 String id = null;
                 if (parameterGood(args, "player")) {
                     id = (String) getParameter(args, true);
@@ -0,0 +1,284 @@
+package bot.Engine.Profiles;
+
+import bot.Config;
+import bot.Tools.GoogleSheetsAPI;
+import bot.Tools.LocalStore;
+import bot.Tools.RowIndex;
+import bot.Tools.SheetsBatch;
+import bot.Tools.SheetsMirror;
+
+import net.dv8tion.jda.api.events.interaction.GenericInteractionCreateEvent;
+
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * @author  Wil Aquino
+ * Date:    October 17, 2026
+ * Project: Libra
+ * Module:  ProfileDatabase.java
+ * Purpose: Keeps the profiles database on disk, mirroring
+ *          its changes to the spreadsheet in the background.
+ */
+public class ProfileDatabase {
+
+    /** The tab name of the spreadsheet. */
+    private static final String TAB = "Profiles";
+
+    /** The spreadsheet's ending column with profile information. */
+    private static final String END_COLUMN = "I";
+
+    /** The first row of the spreadsheet holding a profile. */
+    private static final int FIRST_ROW = 2;
+
+    /** Time between mirrors to the spreadsheet, in seconds. */
+    private static final long MIRROR_INTERVAL = 15;
+
+    /**
+     * The start of the keys of rows still to be deleted from the
+     * spreadsheet, which Discord IDs never begin with.
+     */
+    private static final String PENDING_DELETE = "delete:";
+
+    /** The database shared by every command. */
+    private static ProfileDatabase instance;
+
+    /** The profiles on disk, indexed by Discord ID. */
+    private final LocalStore store;
+
+    /** The number of the next pending delete. */
+    private long nextDelete;
+
+    /**
+     * Opens the database, importing it from the spreadsheet
+     * if it was never stored.
+     */
+    private ProfileDatabase() throws IOException, GeneralSecurityException {
+        store = new LocalStore("profiles");
+        // deletes left pending before a restart are replayed in order
+        for (String key : store.getAll().keySet()) {
+            if (isPendingDelete(key)) {
+                nextDelete = Math.max(nextDelete, Long.parseLong(
+                        key.substring(PENDING_DELETE.length())) + 1);
+            }
+        }
+
+        GoogleSheetsAPI link = GoogleSheetsAPI.linkTo(Config.mitProfilesSheetID);
+        if (!store.isImported()) {
+            importRows(link);
+        }
+        // weapon pools rely on a leading quote being read as text
+        new SheetsMirror(store, link, this::queueRows,
+                GoogleSheetsAPI.USER_ENTERED, MIRROR_INTERVAL);
+    }
+
+    /** Retrieves the profiles database. */
+    public static synchronized ProfileDatabase getInstance()
+            throws IOException, GeneralSecurityException {
+        if (instance == null) {
+            instance = new ProfileDatabase();
+        }
+
+        return instance;
+    }
+
+    /**
+     * Checks whether a stored row is a spreadsheet row still to be
+     * deleted, rather than a profile.
+     * @param key the key of the stored row.
+     */
+    private static boolean isPendingDelete(String key) {
+        return key.startsWith(PENDING_DELETE);
+    }
+
+    /**
+     * Replaces the stored profiles with the spreadsheet's.
+     * @param link a link to the profiles spreadsheet.
+     */
+    private void importRows(GoogleSheetsAPI link) throws IOException {
+        Map<String, List<String>> imports = new LinkedHashMap<>();
+        for (Map.Entry<Object, Object> row
+                : link.readSection(null, TAB, END_COLUMN).entrySet()) {
+            PlayerInfo profile = (PlayerInfo) row.getValue();
+            List<String> stored = new ArrayList<>();
+            stored.add(String.valueOf(profile.getSpreadsheetPosition()));
+            stored.addAll(Arrays.asList(profile.getTag(),
+                    profile.getNickname(), profile.getFC(),
+                    profile.getPronouns(), profile.getPlaystyle(),
+                    profile.getWeaponPool(), profile.getRank(),
+                    profile.getTeam()));
+            imports.put(row.getKey().toString(), stored);
+        }
+
+        store.importAll(imports);
+    }
+
+    /**
+     * Queues the spreadsheet writes of changed profiles, after
+     * deleting the rows of removed ones. Rows are only written or
+     * deleted where column A still holds their profile's ID.
+     * @param batch the batch of writes to the spreadsheet.
+     * @param ids the Discord IDs of the changed profiles.
+     * @param rows the store holding the profiles.
+     * @return False if a row could not be located or deleted.
+     *         True otherwise.
+     */
+    private synchronized boolean queueRows(SheetsBatch batch, Set<String> ids,
+                                           LocalStore rows) {
+        GoogleSheetsAPI link = batch.getLink();
+        RowIndex index;
+        try {
+            index = RowIndex.read(link, TAB);
+        } catch (IOException e) {
+            LoggerFactory.getLogger(this.getClass()).error(
+                    "The profiles' rows could not be located.");
+            return false;
+        }
+
+        for (Map.Entry<String, List<String>> row : rows.getAll().entrySet()) {
+            if (!isPendingDelete(row.getKey())) {
+                continue;
+            }
+
+            // a row moved by staff is found again by its ID, and
+            // one which is already gone is left as it is
+            List<String> pending = row.getValue();
+            int position = Integer.parseInt(pending.get(0));
+            if (!index.idAt(position).equals(pending.get(1))) {
+                position = index.rowOf(pending.get(1));
+            }
+
+            try {
+                if (position != -1) {
+                    link.deleteRow(TAB, position);
+                    index.delete(position);
+                }
+                rows.write(Collections.emptyMap(),
+                        Collections.singletonList(row.getKey()));
+            } catch (IOException | GeneralSecurityException e) {
+                LoggerFactory.getLogger(this.getClass()).error(
+                        "A deleted profile's row could not be removed.");
+                return false;
+            }
+        }
+
+        for (String id : ids) {
+            List<String> row = rows.get(id);
+            if (row == null || isPendingDelete(id)) {
+                continue;
+            }
+
+            int stored = Integer.parseInt(row.get(0));
+            int position = index.locate(id, stored);
+            if (position != stored) {
+                try {
+                    rows.setField(id, 0, String.valueOf(position));
+                } catch (IOException e) {
+                    return false;
+                }
+            }
+
+            List<Object> values = new ArrayList<>();
+            values.add(id);
+            values.addAll(row.subList(1, row.size()));
+            batch.update(id, link.buildRange(TAB,
+                    "A", position, END_COLUMN, position),
+                    link.buildRow(values), null);
+        }
+
+        return true;
+    }
+
+    /**
+     * Retrieves every profile.
+     * @param interaction the user interaction calling this method.
+     * @return the profiles, indexed by Discord ID.
+     */
+    public TreeMap<Object, Object> getDatabase(
+            GenericInteractionCreateEvent interaction) {
+        TreeMap<Object, Object> database = new TreeMap<>();
+        for (Map.Entry<String, List<String>> row : store.getAll().entrySet()) {
+            if (isPendingDelete(row.getKey())) {
+                continue;
+            }
+
+            List<String> stored = row.getValue();
+            database.put(row.getKey(), new PlayerInfo(interaction,
+                    Integer.parseInt(stored.get(0)),
+                    new ArrayList<Object>(stored.subList(1, stored.size()))));
+        }
+
+        return database;
+    }
+
+    /**
+     * Saves a player's profile, adding it below the others if new.
+     * @param id the player's Discord ID.
+     * @param info the tag, nickname, friend code, pronouns, playstyle,
+     *             weapon pool, rank, and team of the player.
+     */
+    public synchronized void save(String id, List<Object> info)
+            throws IOException {
+        int position = FIRST_ROW;
+        List<String> existing = store.get(id);
+        if (existing != null) {
+            position = Integer.parseInt(existing.get(0));
+        } else {
+            for (Map.Entry<String, List<String>> row
+                    : store.getAll().entrySet()) {
+                if (!isPendingDelete(row.getKey())) {
+                    position = Math.max(position,
+                            Integer.parseInt(row.getValue().get(0)) + 1);
+                }
+            }
+        }
+
+        List<String> row = new ArrayList<>();
+        row.add(String.valueOf(position));
+        for (Object field : info) {
+            row.add(String.valueOf(field));
+        }
+        store.put(id, row);
+    }
+
+    /**
+     * Deletes a player's profile, moving the profiles below it up a row.
+     * @param id the player's Discord ID.
+     * @return True if the profile existed.
+     *         False otherwise.
+     */
+    public synchronized boolean delete(String id) throws IOException {
+        List<String> existing = store.get(id);
+        if (existing == null) {
+            return false;
+        }
+
+        int removed = Integer.parseInt(existing.get(0));
+        Map<String, List<String>> shifted = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> row : store.getAll().entrySet()) {
+            int position = Integer.parseInt(row.getValue().get(0));
+            if (!isPendingDelete(row.getKey()) && position > removed) {
+                List<String> moved = new ArrayList<>(row.getValue());
+                moved.set(0, String.valueOf(position - 1));
+                shifted.put(row.getKey(), moved);
+            }
+        }
+
+        // the row's deletion is stored with the shift, so a restart
+        // cannot leave the spreadsheet out of step with either
+        shifted.put(PENDING_DELETE + nextDelete++,
+                Arrays.asList(String.valueOf(removed), id));
+        store.write(shifted, Collections.singletonList(id));
+        return true;
+    }
+}
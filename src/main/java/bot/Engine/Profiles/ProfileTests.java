@@ -1,10 +1,13 @@
 package bot.Engine.Profiles;
 
+import bot.Tools.ProfanityFilter;
+
 import java.util.Arrays;
 import java.util.List;
 
 import org.junit.Test;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -83,4 +86,16 @@ public class ProfileTests {
             assertEquals("Her", chosenPosAdj);
         }
     }
+
+    /** Tests if inappropriate phrases are caught by the filter. */
+    @Test
+    public void testProfanityFilter() {
+        ProfanityFilter filter = ProfanityFilter.getInstance();
+
+        assertTrue(filter.matches("bastard"));
+        assertTrue(filter.matches("You BASTARDS"));
+        assertFalse(filter.matches("Tri-Slosher, Splattershot"));
+        assertFalse(filter.matches("The Libra Team"));
+        assertFalse(filter.matches(null));
+    }
 }
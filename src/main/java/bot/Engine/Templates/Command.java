@@ -1,5 +1,8 @@
 package bot.Engine.Templates;
 
+import bot.Tools.EditCoalescer;
+import bot.Tools.Resolver;
+
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.entities.Guild;
 import net.dv8tion.jda.api.entities.Role;
@@ -34,6 +37,40 @@ public interface Command {
       */
     void runCmd(SlashCommandEvent sc);
 
+    /**
+     * Checks whether a slash command is acknowledged privately, so
+     * that only its user sees its replies.
+     * @param sc the command to analyze.
+     * @return True if its replies are ephemeral.
+     *         False otherwise.
+     */
+    static boolean repliesPrivately(SlashCommandEvent sc) {
+        String subCmd = sc.getSubcommandName();
+        if (subCmd == null) {
+            return false;
+        }
+
+        switch (subCmd) {
+            case "help":
+            case "qprofile":
+            case "fc":
+            case "nickname":
+            case "pronouns":
+            case "playstyle":
+            case "weapons":
+            case "rank":
+            case "team":
+            case "delete":
+            case "award":
+            case "forcesub":
+            case "forceend":
+            case "reload":
+                return true;
+            default:
+                return false;
+        }
+    }
+
     /**
      * Retrieves the users of a slash command.
      * @param sc the command to analyze.
@@ -64,7 +101,7 @@ public interface Command {
                 throw new NullPointerException("Server link disconnected.");
             }
 
-            Member foundMember = server.retrieveMemberById(id).complete();
+            Member foundMember = Resolver.getInstance().findMember(server, id);
             if (foundMember == null) {
                 throw new NullPointerException("A member could not be found.");
             }
@@ -91,8 +128,13 @@ public interface Command {
                 throw new NullPointerException("Server link disconnected.");
             }
 
-            return server.getRolesByName(role, true).get(0);
-        } catch (NullPointerException | IndexOutOfBoundsException e) {
+            Role foundRole = Resolver.getInstance().findRole(server, role);
+            if (foundRole == null) {
+                throw new NullPointerException("A role could not be found.");
+            }
+
+            return foundRole;
+        } catch (NullPointerException e) {
             log("The role, " + role + ", could not be found.", true);
             return null;
         }
@@ -139,8 +181,14 @@ public interface Command {
                 throw new NullPointerException("Server link disconnected.");
             }
 
-            return server.getTextChannelsByName(channel, true).get(0);
-        } catch (NullPointerException | IndexOutOfBoundsException e) {
+            TextChannel foundChannel =
+                    Resolver.getInstance().findChannel(server, channel);
+            if (foundChannel == null) {
+                throw new NullPointerException("A channel could not be found.");
+            }
+
+            return foundChannel;
+        } catch (NullPointerException e) {
             log("The channel, " + channel + ", could not be found.", true);
             return null;
         }
@@ -171,10 +219,23 @@ public interface Command {
      * @param msg the message to send.
      * @param isEphemeral True if this should be an ephemeral message.
      *                    False otherwise.
+     *
+     * Note: Every interaction is acknowledged as soon as it arrives,
+     *       so replies are sent as followups. A private reply to a
+     *       publicly acknowledged command replaces its acknowledgement.
      */
     default void sendReply(GenericInteractionCreateEvent interaction,
                            String msg, boolean isEphemeral) {
-        interaction.reply(msg).setEphemeral(isEphemeral).queue();
+        if (!interaction.isAcknowledged()) {
+            interaction.reply(msg).setEphemeral(isEphemeral).queue();
+        } else if (isEphemeral && interaction instanceof SlashCommandEvent
+                && !repliesPrivately((SlashCommandEvent) interaction)) {
+            // the first followup of a public acknowledgement is public
+            interaction.getHook().deleteOriginal().queue(
+                    deleted -> sendResponse(interaction, msg, true));
+        } else {
+            sendResponse(interaction, msg, isEphemeral);
+        }
     }
 
     /**
@@ -187,7 +248,7 @@ public interface Command {
      */
     default void editMessage(GenericInteractionCreateEvent interaction,
                              String msg) {
-        interaction.getHook().editOriginal(msg).queue();
+        EditCoalescer.getInstance().editContent(interaction, msg);
     }
 
     /**
@@ -206,7 +267,7 @@ public interface Command {
             builtEmbeds.add(embed.build());
         }
 
-        interaction.getHook().editOriginalEmbeds(builtEmbeds).queue();
+        EditCoalescer.getInstance().editEmbeds(interaction, builtEmbeds);
     }
 
     /**
@@ -2,6 +2,8 @@ package bot.Engine.Templates;
 
 import bot.Engine.Games.GameProperties;
 import bot.Engine.Games.Player;
+import bot.Tools.DiscordWatch;
+
 import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.TextChannel;
 import net.dv8tion.jda.api.events.interaction.ButtonClickEvent;
@@ -26,6 +28,9 @@ public interface GameReqs {
      */
     boolean isInitialized();
 
+    /** Retrieves the number of the draft. */
+    int getNumDraft();
+
     /** Retrieves the game's properties. */
     GameProperties getProperties();
 
@@ -41,17 +46,28 @@ public interface GameReqs {
     /** Retrieves the respective draft chat channel. */
     TextChannel getDraftChannel();
 
+    /** Retrieves the request's watch. */
+    DiscordWatch getWatch();
+
     /**
      * Checks whether the request has timed out or not.
-     * @param interaction the user interaction calling this method.
      * @return True if the request expired.
      *         False otherwise.
      */
-    boolean timedOut(GenericInteractionCreateEvent interaction);
+    boolean timedOut();
 
     /** Retrieves the field for executing the draft. */
     ProcessReqs getProcess();
 
+    /**
+     * Checks whether a player can access a draft, according
+     * to their draft section.
+     * @param interaction the user interaction calling this method.
+     * @return True if they are in the wrong section.
+     *         False otherwise.
+     */
+    boolean inWrongSection(GenericInteractionCreateEvent interaction);
+
     /**
      * Sends a draft confirmation summary with all players of the draft.
      * @param interaction the user interaction calling this method.
@@ -68,7 +84,7 @@ public interface GameReqs {
      * Refreshes the draft request's caption.
      * @param bc a button click to analyze.
      *
-     * Note: The interaction must not have been acknowledged
+     * Note: The interaction must have been acknowledged
      *       before this method.
      */
     void refresh(ButtonClickEvent bc);
@@ -4,14 +4,18 @@ import bot.Engine.*;
 import bot.Engine.Cycles.*;
 import bot.Engine.Games.Drafts.DraftGame;
 import bot.Engine.Games.Drafts.DraftProcess;
+import bot.Engine.Games.DraftRegistry;
+import bot.Engine.Games.PlayerIndex;
 import bot.Engine.Games.GameType;
 import bot.Engine.Games.MapGenerator;
 import bot.Engine.Games.Minigames.MiniGame;
 import bot.Engine.Games.Minigames.MiniProcess;
 import bot.Engine.Profiles.Profile;
 import bot.Engine.Templates.*;
-import bot.Tools.ArrayHeapMinPQ;
+import bot.Tools.ComponentID;
 import bot.Tools.Components;
+import bot.Tools.Dispatcher;
+import bot.Tools.Resolver;
 
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.entities.Emoji;
@@ -31,10 +35,11 @@ import org.slf4j.LoggerFactory;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Random;
-import java.util.TreeMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * @author  Wil Aquino
@@ -54,15 +59,51 @@ public class Events extends ListenerAdapter {
     private final static int MAX_LP_DRAFTS = 4;
     private final static int MAX_IO_DRAFTS = 2;
 
-    /** Fields for storing numbers to drafts. */
-    private TreeMap<Integer, GameReqs> fsDrafts;
-    private TreeMap<Integer, GameReqs> lpDrafts;
-    private TreeMap<Integer, GameReqs> ioDrafts;
+    /** Runs interactions off of JDA's event thread. */
+    private final Dispatcher dispatcher = new Dispatcher();
+
+    /** A handler of a draft request's button. */
+    private interface RequestClick {
+
+        /**
+         * Handles a click.
+         * @param bc a button click to analyze.
+         * @param draft the request the button belongs to.
+         * @param drafts the registry that the request belongs to.
+         */
+        void handle(ButtonClickEvent bc, GameReqs draft, DraftRegistry drafts);
+    }
+
+    /** A handler of a draft process's button. */
+    private interface ProcessClick {
+
+        /**
+         * Handles a click.
+         * @param bc a button click to analyze.
+         * @param process the process the button belongs to.
+         * @param draft the request that the process belongs to.
+         * @param drafts the registry that the request belongs to.
+         * @param numDraft the number of the draft.
+         */
+        void handle(ButtonClickEvent bc, ProcessReqs process, GameReqs draft,
+                    DraftRegistry drafts, int numDraft);
+    }
+
+    /** The handlers of draft request buttons, indexed by action. */
+    private final Map<String, RequestClick> requestClicks =
+            buildRequestClicks();
+
+    /** The handlers of draft process buttons, indexed by action. */
+    private final Map<String, ProcessClick> processClicks =
+            buildProcessClicks();
 
-    /** Fields for storing queued draft numbers. */
-    private ArrayHeapMinPQ<Integer> fsQueue;
-    private ArrayHeapMinPQ<Integer> lpQueue;
-    private ArrayHeapMinPQ<Integer> ioQueue;
+    /** Fields for storing each section's drafts. */
+    private final DraftRegistry fsDrafts =
+            new DraftRegistry("fs", MAX_FS_DRAFTS, dispatcher);
+    private final DraftRegistry lpDrafts =
+            new DraftRegistry("lp", MAX_LP_DRAFTS, dispatcher);
+    private final DraftRegistry ioDrafts =
+            new DraftRegistry("io", MAX_IO_DRAFTS, dispatcher);
 
     /**
      * Checks if the game set parameters make sense.
@@ -77,16 +118,15 @@ public class Events extends ListenerAdapter {
         int gamesWon = (int) args.get(1).getAsLong();
 
         if (gamesPlayed < gamesWon) {
-            sc.reply("Total games won cannot go beyond the set. Try again.")
-                    .setEphemeral(true).queue();
+            replyPrivately(sc,
+                    "Total games won cannot go beyond the set. Try again.");
             return false;
         } else if (gamesPlayed < 0 || gamesWon < 0) {
-            sc.reply("The amount games played cannot be negative.")
-                    .setEphemeral(true).queue();
+            replyPrivately(sc, "The amount games played cannot be negative.");
             return false;
         } else if (gamesPlayed > 19) {
-            sc.reply("Are you sure that's how many games were played?")
-                    .setEphemeral(true).queue();
+            replyPrivately(sc,
+                    "Are you sure that's how many games were played?");
             return false;
         }
 
@@ -101,7 +141,7 @@ public class Events extends ListenerAdapter {
      *         False otherwise.
      */
     private boolean isStaffCommand(SlashCommandEvent sc) {
-        String[] staffCmds = {"forceend", "log", "sub", "undo",
+        String[] staffCmds = {"forceend", "log", "sub", "undo", "reload",
                 "add", "deny", "grad", "award", "cyclescalc"};
 
         try {
@@ -112,7 +152,7 @@ public class Events extends ListenerAdapter {
 
             Member author = sc.getMember();
             String subCmd = sc.getSubcommandName();
-            Role staffRole = server.getRolesByName("Staff", true).get(0);
+            Role staffRole = Resolver.getInstance().findRole(server, "Staff");
 
             if (author != null && !author.getRoles().contains(staffRole)) {
                 for (String cmd : staffCmds) {
@@ -121,7 +161,7 @@ public class Events extends ListenerAdapter {
                     }
                 }
             }
-        } catch (NullPointerException | IndexOutOfBoundsException e) {
+        } catch (NullPointerException e) {
             Logger logger = LoggerFactory.getLogger(this.getClass());
             logger.error("Roles could not be found.");
         }
@@ -145,28 +185,28 @@ public class Events extends ListenerAdapter {
             return false;
         }
 
-        String helpdesk = server.getTextChannelsByName(
-                "mit-helpdesk", false).get(0).getName();
-        String entryChannel = server.getTextChannelsByName(
-                "mit-entry-confirmation", false).get(0).getName();
-        String fsDraftChannel = server.getTextChannelsByName(
-                "\uD83D\uDCCDfs-looking-for-draft", false).get(0).getName();
-        String lpDraftChannel = server.getTextChannelsByName(
-                 "\uD83D\uDCCDlp-looking-for-draft", false).get(0).getName();
-        String lpReportsChannel = server.getTextChannelsByName(
-                "lp-match-report", false).get(0).getName();
-        String ioDraftChannel = server.getTextChannelsByName(
-                "\uD83D\uDCCDio-looking-for-draft", false).get(0).getName();
-        String ioReportsChannel = server.getTextChannelsByName(
-                "io-match-report", false).get(0).getName();
-        String testChannel = server.getTextChannelsByName(
-                "bot-testing", false).get(0).getName();
+        String helpdesk = Resolver.getInstance().findChannel(
+                server, "mit-helpdesk").getName();
+        String entryChannel = Resolver.getInstance().findChannel(
+                server, "mit-entry-confirmation").getName();
+        String fsDraftChannel = Resolver.getInstance().findChannel(
+                server, "\uD83D\uDCCDfs-looking-for-draft").getName();
+        String lpDraftChannel = Resolver.getInstance().findChannel(
+                server, "\uD83D\uDCCDlp-looking-for-draft").getName();
+        String lpReportsChannel = Resolver.getInstance().findChannel(
+                server, "lp-match-report").getName();
+        String ioDraftChannel = Resolver.getInstance().findChannel(
+                server, "\uD83D\uDCCDio-looking-for-draft").getName();
+        String ioReportsChannel = Resolver.getInstance().findChannel(
+                server, "io-match-report").getName();
+        String testChannel = Resolver.getInstance().findChannel(
+                server, "bot-testing").getName();
 
         String channel = sc.getTextChannel().getName();
         boolean isDraftCommand =
                 subCmd.equals("startdraft") || subCmd.equals("forcesub") || subCmd.equals("forceend");
-        boolean isReportCommand =
-                subCmd.equals("log") || subCmd.equals("sub") || subCmd.equals("undo");
+        boolean isReportCommand = subCmd.equals("log") || subCmd.equals("sub")
+                || subCmd.equals("undo") || subCmd.equals("reload");
 
         boolean isHelpdesk = channel.equals(helpdesk);
         boolean inEntryChannel = (subCmd.equals("add") || subCmd.equals("deny") || subCmd.equals("grad"))
@@ -195,8 +235,6 @@ public class Events extends ListenerAdapter {
      * @param sm a menu selection to analyze. the user's inputted command.
      */
     private void printHelpOption(SelectionMenuEvent sm) {
-        sm.deferEdit().queue();
-
         SelectOption chosenOption = sm.getInteraction().getSelectedOptions().get(0);
         String value = chosenOption.getValue();
 
@@ -285,65 +323,40 @@ public class Events extends ListenerAdapter {
      * Checks whether a player is in another draft or not.
      * @param interaction the user interaction calling this method.
      * @param generator a number generator for error messaging.
-     * @param drafts the list of drafts to check.
+     * @param drafts the drafts of the section, which map generation
+     *               is limited to.
      * @return their found draft.
      *         null otherwise.
      */
     private GameReqs notInAnotherDraft(GenericInteractionCreateEvent interaction,
                                         Random generator,
-                                        TreeMap<Integer, GameReqs> drafts) {
-        String playerID = interaction.getMember().getId();
-        if (drafts == null) {
+                                        DraftRegistry drafts) {
+        GameReqs draft = PlayerIndex.find(interaction.getMember().getId());
+        if (draft == null) {
             return null;
+        } else if (generator != null) {
+            return drafts.get(draft.getNumDraft()) == draft ? draft : null;
         }
 
-        for (GameReqs draft : drafts.values()) {
-            if (draft.getPlayers().containsKey(playerID)
-                    && draft.getPlayers().get(playerID).isActive()) {
-                if (generator == null) {
-                    interaction.reply("You are already in a draft!")
-                            .setEphemeral(true).queue();
-                }
-                return draft;
-            }
-        }
-
-        return null;
+        replyPrivately(interaction, "You are already in a draft!");
+        return draft;
     }
 
     /**
-     * Times out drafts in a section if possible.
-     * @param interaction the user interaction calling this method.
-     * @param drafts the source map of drafts.
-     * @param queue the source queue of drafts.
+     * Retrieves the drafts of a section.
+     * @param prefix the prefix of the section.
      */
-    private void timeoutDrafts(GenericInteractionCreateEvent interaction,
-                              TreeMap<Integer, GameReqs> drafts,
-                              ArrayHeapMinPQ<Integer> queue) {
-        if (drafts != null) {
-            for (Map.Entry<Integer, GameReqs> mapping : drafts.entrySet()) {
-                int numDraft = mapping.getKey();
-                GameReqs draft = mapping.getValue();
-
-                if (!draft.isInitialized() && draft.timedOut(interaction)) {
-                    drafts.remove(numDraft);
-                    queue.add(numDraft, numDraft);
-                    break;
-                }
-            }
+    private DraftRegistry getDrafts(String prefix) {
+        switch (prefix.toLowerCase()) {
+            case "fs":
+                return fsDrafts;
+            case "lp":
+                return lpDrafts;
+            default:
+                return ioDrafts;
         }
     }
 
-    /**
-     * Times out any drafts if possible.
-     * @param interaction the user interaction calling this method.
-     */
-    private void timeoutAnyDrafts(GenericInteractionCreateEvent interaction) {
-        timeoutDrafts(interaction, fsDrafts, fsQueue);
-        timeoutDrafts(interaction, lpDrafts, lpQueue);
-        timeoutDrafts(interaction, ioDrafts, ioQueue);
-    }
-
     /**
      * Creates a new draft depending on command parameters given by FS/LP/IO.
      * @param sc the user's inputted command.
@@ -383,104 +396,47 @@ public class Events extends ListenerAdapter {
      * @param sc the user's inputted command.
      * @param prefix the prefix of the command.
      * @param author the user who ran the command.
-     * @param ongoingDrafts the source map of drafts.
-     * @param queue the source queue of drafts.
-     */
-    private void processDraft(SlashCommandEvent sc,
-                              String prefix, Member author,
-                              TreeMap<Integer, GameReqs> ongoingDrafts,
-                              ArrayHeapMinPQ<Integer> queue) {
-        if (queue.size() == 0) {
-            sc.reply("Wait until a draft has finished!").queue();
-        } else {
-            int draftButton = queue.removeSmallest();
-            GameReqs newDraft = newDraft(sc, prefix, author, draftButton);
-
-            ongoingDrafts.put(draftButton, newDraft);
-            newDraft.runCmd(sc);
-
-            if (!sc.isAcknowledged()) {
-                sc.reply("You don't have access to this section's drafts!")
-                        .setEphemeral(true).queue();
-
-                ongoingDrafts.remove(draftButton);
-                queue.add(draftButton, draftButton);
-            }
-        }
-    }
-
-    /**
-     * Processes drafts, when possible.
-     * @param sc the user's inputted command.
-     * @param prefix the prefix of the command.
-     * @param author the user who ran the command.
      */
     private void processDrafts(SlashCommandEvent sc, String prefix,
                                Member author) {
-        switch (prefix) {
-            case "fs":
-                if (fsDrafts == null) {
-                    fsDrafts = new TreeMap<>();
-                }
-                if (fsQueue == null) {
-                    fsQueue = new ArrayHeapMinPQ<>();
-                    for (int i = 1; i <= MAX_FS_DRAFTS; i++) {
-                        fsQueue.add(i, i);
-                    }
-                }
-
-                processDraft(sc, prefix, author, fsDrafts, fsQueue);
-                break;
-            case "lp":
-                if (lpDrafts == null) {
-                    lpDrafts = new TreeMap<>();
-                }
-                if (lpQueue == null) {
-                    lpQueue = new ArrayHeapMinPQ<>();
-                    for (int i = 1; i <= MAX_LP_DRAFTS; i++) {
-                        lpQueue.add(i, i);
-                    }
-                }
-
-                processDraft(sc, prefix, author, lpDrafts, lpQueue);
-                break;
-            default:
-                if (ioDrafts == null) {
-                    ioDrafts = new TreeMap<>();
-                }
-                if (ioQueue == null) {
-                    ioQueue = new ArrayHeapMinPQ<>();
-                    for (int i = 1; i <= MAX_IO_DRAFTS; i++) {
-                        ioQueue.add(i, i);
-                    }
-                }
+        DraftRegistry drafts = getDrafts(prefix);
+        GameReqs newDraft;
+        try {
+            newDraft = drafts.open(
+                    draftButton -> newDraft(sc, prefix, author, draftButton));
+        } catch (IllegalStateException e) {
+            // the author joined another draft after being checked,
+            // so the slot was given back
+            replyPrivately(sc, "You are already in a draft!");
+            return;
+        }
 
-                processDraft(sc, prefix, author, ioDrafts, ioQueue);
-                break;
+        if (newDraft == null) {
+            sc.getHook().sendMessage("Wait until a draft has finished!")
+                    .queue();
+        } else if (newDraft.inWrongSection(sc)) {
+            replyPrivately(sc,
+                    "You don't have access to this section's drafts!");
+            drafts.release(newDraft.getNumDraft(), newDraft);
+        } else {
+            newDraft.runCmd(sc);
         }
     }
 
     /**
-     * Checks if a number draft exists among a map of drafts.
+     * Checks if a number draft exists among a section's drafts.
      * @param sc the user's inputted command.
-     * @param drafts the source map of drafts.
+     * @param drafts the source registry of drafts.
      * @param args the arguments of the command.
      * @return the number if it does exist.
      *         -1 otherwise.
      */
     private int foundDraftNumber(SlashCommandEvent sc,
-                                 TreeMap<Integer, GameReqs> drafts,
+                                 DraftRegistry drafts,
                                  List<OptionMapping> args) {
-        if (drafts == null) {
-            sc.reply("No drafts have been started yet.")
-                    .setEphemeral(true).queue();
-            return -1;
-        }
-
         int numDraft = (int) args.get(0).getAsLong();
         if (drafts.get(numDraft) == null) {
-            sc.reply("That number draft does not exist.")
-                    .setEphemeral(true).queue();
+            replyPrivately(sc, "That number draft does not exist.");
         }
 
         return numDraft;
@@ -489,11 +445,11 @@ public class Events extends ListenerAdapter {
     /**
      * Attempts to forcibly sub a player out of a draft.
      * @param sc the user's inputted command.
-     * @param drafts the source map of drafts.
+     * @param drafts the source registry of drafts.
      * @param args the arguments of the command.
      */
     private void attemptForceSub(SlashCommandEvent sc,
-                                 TreeMap<Integer, GameReqs> drafts,
+                                 DraftRegistry drafts,
                                  List<OptionMapping> args) {
         int numDraft = foundDraftNumber(sc, drafts, args);
 
@@ -509,20 +465,18 @@ public class Events extends ListenerAdapter {
     /**
      * Attempts to forcibly end a draft.
      * @param sc the user's inputted command.
-     * @param drafts the source map of drafts.
+     * @param drafts the source registry of drafts.
      * @param args the arguments of the command.
      */
     private void attemptForceEnd(SlashCommandEvent sc,
-                                 TreeMap<Integer, GameReqs> drafts,
-                                 ArrayHeapMinPQ<Integer> queue,
+                                 DraftRegistry drafts,
                                  List<OptionMapping> args) {
         int numDraft = foundDraftNumber(sc, drafts, args);
 
         if (numDraft != -1) {
             GameReqs draft = drafts.get(numDraft);
             if (draft != null && draft.canForceEnd(sc)) {
-                drafts.remove(numDraft);
-                queue.add(numDraft, numDraft);
+                drafts.release(numDraft, draft);
             }
         }
     }
@@ -590,16 +544,17 @@ public class Events extends ListenerAdapter {
 
         switch (subCmd) {
             case "status":
-                sc.reply("The bot is online. Welcome, "
+                sc.getHook().sendMessage("The bot is online. Welcome, "
                         + author.getEffectiveName()).queue();
                 break;
             case "help":
-                sc.reply("What can I help you with? (:")
-                        .addActionRow(Components.ForGeneral.helpMenu("MT1"))
-                        .setEphemeral(true).queue();
+                sc.getHook().sendMessage("What can I help you with? (:")
+                        .addActionRow(Components.ForGeneral.helpMenu(
+                                ComponentID.suffix("mt", 1)))
+                        .queue();
                 break;
             case "fact":
-                sc.replyEmbeds(getFunFact().build()).queue();
+                sc.getHook().sendMessageEmbeds(getFunFact().build()).queue();
                 break;
         }
     }
@@ -623,7 +578,7 @@ public class Events extends ListenerAdapter {
         } else {
             switch (subCmd) {
                 case "ded":
-                    sc.reply(Emoji.fromEmote(
+                    sc.getHook().sendMessage(Emoji.fromEmote(
                                     "Okayu_ded", 1016217763536187412L, false)
                             .getAsMention()).queue();
                     break;
@@ -644,24 +599,17 @@ public class Events extends ListenerAdapter {
             subCmd = "";
         }
 
-        TreeMap<Integer, GameReqs> drafts;
-        ArrayHeapMinPQ<Integer> queue;
+        DraftRegistry drafts = getDrafts(prefix);
         String leaderboardLink;
         switch (prefix) {
             case "fs":
-                drafts = fsDrafts;
-                queue = fsQueue;
                 leaderboardLink = "";
                 break;
             case "lp":
-                drafts = lpDrafts;
-                queue = lpQueue;
                 leaderboardLink =
                         "https://docs.google.com/spreadsheets/d/1DMGWmvIz23fcx7ZtIVxDCyl1zjgdOF_5vccdlmifa7o/edit?usp=sharing";
                 break;
             default:
-                drafts = ioDrafts;
-                queue = ioQueue;
                 leaderboardLink =
                         "https://docs.google.com/spreadsheets/d/12T6J0jd6Z8opkmYaj6LDRpvQIiW6vqXAZUG0heAFNxc/edit?usp=sharing";
                 break;
@@ -687,7 +635,7 @@ public class Events extends ListenerAdapter {
                 maps.runCmd(sc);
                 break;
             case "leaderboard":
-                sc.reply(leaderboardLink).queue();
+                sc.getHook().sendMessage(leaderboardLink).queue();
                 break;
             case "startdraft":
                 if (notInAnotherDraft(sc, null, drafts) == null) {
@@ -698,7 +646,7 @@ public class Events extends ListenerAdapter {
                 attemptForceSub(sc, drafts, args);
                 break;
             case "forceend":
-                attemptForceEnd(sc, drafts, queue, args);
+                attemptForceEnd(sc, drafts, args);
                 break;
             case "log":
             case "sub":
@@ -709,6 +657,68 @@ public class Events extends ListenerAdapter {
             case "undo":
                 new Undo(prefix).runCmd(sc);
                 break;
+            case "reload":
+                Leaderboard.of(prefix).invalidate();
+                sc.getHook().sendMessage(
+                        "The leaderboard will be reloaded on its next use.")
+                        .queue();
+                break;
+        }
+    }
+
+    /**
+     * Retrieves the key a slash command must be ordered under.
+     * @param sc a slash command to analyze.
+     * @return the draft's key if the command changes a specific draft.
+     *         the author's ID if the command starts a draft.
+     *         the section's cycle key if the command reads or changes
+     *         its leaderboard.
+     *         null otherwise.
+     */
+    private String laneOf(SlashCommandEvent sc) {
+        String subCmd = sc.getSubcommandName();
+        if (subCmd == null) {
+            return null;
+        }
+
+        switch (subCmd) {
+            case "startdraft":
+                return sc.getUser().getId();
+            case "forcesub":
+            case "forceend":
+                int numDraft = (int) sc.getOptions().get(0).getAsLong();
+                return getDrafts(sc.getName()).laneOf(numDraft);
+            case "log":
+            case "sub":
+            case "undo":
+            case "reload":
+            case "cyclescalc":
+                return "cycle:" + sc.getName();
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Runs one of the bot's commands.
+     * @param sc a slash command to analyze.
+     */
+    private void parseCommands(SlashCommandEvent sc) {
+        String cmdPrefix = sc.getName();
+        switch (cmdPrefix) {
+            case "libra":
+                parseLibraCommands(sc);
+                break;
+            case "mit":
+                parseGeneralCommands(sc);
+                break;
+            case "fs":
+            case "lp":
+            case "io":
+                parseSectionCommands(sc);
+                break;
+            case "dc":
+                new DraftCup().runCmd(sc);
         }
     }
 
@@ -718,121 +728,89 @@ public class Events extends ListenerAdapter {
      */
     @Override
     public void onSlashCommand(@NotNull SlashCommandEvent sc) {
-        timeoutAnyDrafts(sc);
-
         if (isStaffCommand(sc) || wrongChannelUsed(sc)) {
             sc.reply("You do not have permission to use this command here.")
                     .setEphemeral(true).queue();
         } else {
-            String cmdPrefix = sc.getName();
-            switch (cmdPrefix) {
-                case "libra":
-                    parseLibraCommands(sc);
-                    break;
-                case "mit":
-                    parseGeneralCommands(sc);
-                    break;
-                case "fs":
-                case "lp":
-                case "io":
-                    parseSectionCommands(sc);
-                    break;
-                case "dc":
-                    new DraftCup().runCmd(sc);
-            }
+            // acknowledge now, as the command may wait behind its lane
+            sc.deferReply(Command.repliesPrivately(sc)).queue();
+            dispatcher.submit(laneOf(sc), () -> parseCommands(sc));
         }
     }
 
     /**
-     * Processes a button click from game request interfaces.
-     * @param bc a button click to analyze.
-     * @param name the name of the button.
-     * @param indexOfNum the index of the button's assigned number.
-     * @param draft a draft request to analyze.
-     * @param drafts the map that the request belongs to.
-     * @return True if the parse matched with a button.
-     *         False otherwise
+     * Builds the handlers of draft request buttons.
+     * @return the handlers, indexed by button action.
      */
-    private boolean parseRequestClicks(ButtonClickEvent bc, String name,
-                                      int indexOfNum, GameReqs draft,
-                                      TreeMap<Integer, GameReqs> drafts) {
-        switch (name.substring(0, indexOfNum - 2)) {
-            case "join":
-                if (notInAnotherDraft(bc, null, drafts) == null) {
-                    draft.attemptDraft(bc);
-                }
-                return true;
-            case "setupEarly":
-                ((MiniGame) draft).setup(bc);
-                return true;
-            case "reping":
-                draft.reping(bc);
-                return true;
-            case "leave":
-                draft.removeFromQueue(bc);
-                return true;
-            case "requestRefresh":
-                draft.refresh(bc);
-                return true;
-            case "requestSub":
-                draft.requestSub(bc);
-                return true;
-            case "reassign":
-                ((DraftGame) draft).reassignCaptain(bc);
-                return true;
-            case "sub":
-                if (notInAnotherDraft(bc, null, drafts) == null) {
-                    draft.addSub(bc);
-                }
-                return true;
-        }
+    private Map<String, RequestClick> buildRequestClicks() {
+        Map<String, RequestClick> clicks = new HashMap<>();
+        clicks.put("join", (bc, draft, drafts) -> {
+            if (notInAnotherDraft(bc, null, drafts) == null) {
+                draft.attemptDraft(bc);
+            }
+        });
+        clicks.put("setupEarly", (bc, draft, drafts) ->
+                ((MiniGame) draft).setup(bc));
+        clicks.put("reping", (bc, draft, drafts) -> draft.reping(bc));
+        clicks.put("leave", (bc, draft, drafts) -> draft.removeFromQueue(bc));
+        clicks.put("requestRefresh", (bc, draft, drafts) -> draft.refresh(bc));
+        clicks.put("requestSub", (bc, draft, drafts) -> draft.requestSub(bc));
+        clicks.put("reassign", (bc, draft, drafts) ->
+                ((DraftGame) draft).reassignCaptain(bc));
+        clicks.put("sub", (bc, draft, drafts) -> {
+            if (notInAnotherDraft(bc, null, drafts) == null) {
+                draft.addSub(bc);
+            }
+        });
 
-        return false;
+        return Collections.unmodifiableMap(clicks);
     }
 
     /**
-     * Processes a button click from game request interfaces.
-     * @param bc a button click to analyze.
-     * @param name the name of the button.
-     * @param indexOfNum the index of the button's assigned number.
-     * @param numButton the button's assigned number.
-     * @param process a draft process to analyze.
-     * @param drafts the map that the respective request belongs to.
-     * @param queue the queue that the draft belongs to.
+     * Builds the handlers of draft process buttons.
+     * @return the handlers, indexed by button action.
      */
-    private void parseProcessClicks(ButtonClickEvent bc, String name,
-                                    int indexOfNum, int numButton,
-                                    ProcessReqs process,
-                                    TreeMap<Integer, GameReqs> drafts,
-                                    ArrayHeapMinPQ<Integer> queue) {
-        switch (name.substring(0, indexOfNum - 2)) {
-            case "resetTeams":
-                ((DraftProcess) process).resetTeams(bc);
-                break;
-            case "beginDraft":
-                ((DraftProcess) process).start(bc);
-                break;
-            case "plusOne":
-                process.changePointsForTeam(
-                        bc, bc.getMember().getId(), true);
-                break;
-            case "minusOne":
-                process.changePointsForTeam(
-                        bc, bc.getMember().getId(), false);
-                break;
-            case "nextTurn":
-                ((MiniProcess) process).rotateTurns(bc);
-                break;
-            case "endDraftProcess":
-                if (process.hasEnded(bc)) {
-                    drafts.remove(numButton);
-                    queue.add(numButton, numButton);
-                }
-                break;
-            case "processRefresh":
-                bc.deferEdit().queue();
-                process.refresh(bc);
-                break;
+    private Map<String, ProcessClick> buildProcessClicks() {
+        Map<String, ProcessClick> clicks = new HashMap<>();
+        clicks.put("resetTeams", (bc, process, draft, drafts, numDraft) ->
+                ((DraftProcess) process).resetTeams(bc));
+        clicks.put("beginDraft", (bc, process, draft, drafts, numDraft) ->
+                ((DraftProcess) process).start(bc));
+        clicks.put("plusOne", (bc, process, draft, drafts, numDraft) ->
+                process.changePointsForTeam(bc, bc.getMember().getId(), true));
+        clicks.put("minusOne", (bc, process, draft, drafts, numDraft) ->
+                process.changePointsForTeam(bc, bc.getMember().getId(), false));
+        clicks.put("nextTurn", (bc, process, draft, drafts, numDraft) ->
+                ((MiniProcess) process).rotateTurns(bc));
+        clicks.put("endDraftProcess", (bc, process, draft, drafts, numDraft) -> {
+            if (process.hasEnded(bc)) {
+                drafts.release(numDraft, draft);
+            }
+        });
+        clicks.put("processRefresh", (bc, process, draft, drafts, numDraft) ->
+                process.refresh(bc));
+
+        return Collections.unmodifiableMap(clicks);
+    }
+
+    /**
+     * Replies privately to an interaction, following up instead
+     * if it was already acknowledged.
+     * @param interaction the user interaction to reply to.
+     * @param msg the message to send.
+     */
+    private void replyPrivately(GenericInteractionCreateEvent interaction,
+                                String msg) {
+        if (!interaction.isAcknowledged()) {
+            interaction.reply(msg).setEphemeral(true).queue();
+        } else if (interaction instanceof SlashCommandEvent
+                && !Command.repliesPrivately((SlashCommandEvent) interaction)) {
+            // the first followup of a public acknowledgement is public
+            interaction.getHook().deleteOriginal().queue(deleted ->
+                    interaction.getHook().sendMessage(msg)
+                            .setEphemeral(true).queue());
+        } else {
+            interaction.getHook().sendMessage(msg).setEphemeral(true).queue();
         }
     }
 
@@ -841,103 +819,98 @@ public class Events extends ListenerAdapter {
      * @param interaction the user interaction calling this method.
      */
     private void printExpirationMessage(GenericInteractionCreateEvent interaction) {
-        interaction.reply("Sorry but that draft has expired. "
-                        + "Feel free to start a new one!")
-                .setEphemeral(true).queue();
+        replyPrivately(interaction, "Sorry but that draft has expired. "
+                + "Feel free to start a new one!");
     }
 
     /**
      * Processes button clicks.
      * @param bc a button click to analyze.
+     * @param drafts the registry that the button's draft belongs to.
+     * @param id the button's decoded ID.
      */
-    @Override
-    public void onButtonClick(@NotNull ButtonClickEvent bc) {
-        timeoutAnyDrafts(bc);
-
-        String btnName = bc.getButton().getId();
-        int indexOfNum = btnName.length() - 1;
-
-        TreeMap<Integer, GameReqs> drafts;
-        ArrayHeapMinPQ<Integer> queue;
-        String suffix = btnName.substring(indexOfNum - 2, indexOfNum);
-        int numButton = Integer.parseInt(btnName.substring(indexOfNum));
-        switch (suffix) {
-            case "FS":
-                drafts = fsDrafts;
-                queue = fsQueue;
-                break;
-            case "LP":
-                drafts = lpDrafts;
-                queue = lpQueue;
-                break;
-            default:
-                drafts = ioDrafts;
-                queue = ioQueue;
-                break;
-        }
-        if (drafts == null) {
-            bc.getMessage().delete().queue();
-            printExpirationMessage(bc);
-            return;
-        }
-
-        GameReqs currDraft = drafts.get(numButton);
+    private void parseButtonClick(ButtonClickEvent bc, DraftRegistry drafts,
+                                  ComponentID id) {
+        GameReqs currDraft = drafts.get(id.getNumber());
+        RequestClick requestClick = requestClicks.get(id.getAction());
         if (currDraft == null) {
             printExpirationMessage(bc);
-        } else if (!parseRequestClicks(bc, btnName, indexOfNum,
-                currDraft, drafts)) {
+        } else if (requestClick != null) {
+            requestClick.handle(bc, currDraft, drafts);
+        } else {
             ProcessReqs currProcess = currDraft.getProcess();
+            ProcessClick processClick = processClicks.get(id.getAction());
 
             if (currProcess == null) {
                 bc.getMessage().delete().queue();
                 printExpirationMessage(bc);
-            } else {
-                parseProcessClicks(bc, btnName, indexOfNum, numButton,
-                        currProcess, drafts, queue);
+            } else if (processClick != null) {
+                processClick.handle(bc, currProcess, currDraft, drafts,
+                        id.getNumber());
             }
         }
     }
 
     /**
-     * Processes menu selections.
-     * @param sm a menu selection to analyze.
+     * Processes button clicks.
+     * @param bc a button click to analyze.
      */
     @Override
-    public void onSelectionMenu(@NotNull SelectionMenuEvent sm) {
-        timeoutAnyDrafts(sm);
-
-        String menuName = sm.getComponent().getId();
-        int indexOfNum = menuName.length() - 1;
-
-        TreeMap<Integer, GameReqs> drafts;
-        String suffix = menuName.substring(indexOfNum - 2, indexOfNum);
-        int numMenu = Integer.parseInt(menuName.substring(indexOfNum));
-        switch (suffix) {
-            case "MT":
-                printHelpOption(sm);
-                return;
-            case "FS":
-                drafts = fsDrafts;
-                break;
-            case "LP":
-                drafts = lpDrafts;
-                break;
-            default:
-                drafts = ioDrafts;
-                break;
+    public void onButtonClick(@NotNull ButtonClickEvent bc) {
+        // acknowledge now, as the click may wait behind its draft's lane
+        bc.deferEdit().queue();
+
+        ComponentID id = ComponentID.parse(bc.getComponentId());
+        if (id == null) {
+            return;
         }
 
-        if (drafts == null) {
-            sm.getMessage().delete().queue();
-            printExpirationMessage(sm);
+        DraftRegistry drafts = getDrafts(id.getSection());
+        dispatcher.submit(drafts.laneOf(id.getNumber()),
+                () -> parseButtonClick(bc, drafts, id));
+    }
+
+    /**
+     * Processes menu selections.
+     * @param sm a menu selection to analyze.
+     * @param drafts the registry that the menu's draft belongs to.
+     * @param id the menu's decoded ID.
+     */
+    private void parseSelectionMenu(SelectionMenuEvent sm,
+                                    DraftRegistry drafts, ComponentID id) {
+        GameReqs currDraft = drafts.get(id.getNumber());
+        DraftProcess currProcess = null;
+        if (currDraft != null) {
+            currProcess = ((DraftGame) currDraft).getProcess();
         }
 
-        DraftProcess currProcess = ((DraftGame) drafts.get(numMenu)).getProcess();
         if (currProcess == null) {
             sm.getMessage().delete().queue();
             printExpirationMessage(sm);
-        } else if (menuName.substring(0, indexOfNum - 2).equals("teamSelection")) {
+        } else if (id.getAction().equals("teamSelection")) {
             currProcess.addPlayerToTeam(sm);
         }
     }
+
+    /**
+     * Processes menu selections.
+     * @param sm a menu selection to analyze.
+     */
+    @Override
+    public void onSelectionMenu(@NotNull SelectionMenuEvent sm) {
+        sm.deferEdit().queue();
+
+        ComponentID id = ComponentID.parse(sm.getComponentId());
+        if (id == null) {
+            return;
+        }
+
+        if (id.getSection().equals("MT")) {
+            dispatcher.submit(null, () -> printHelpOption(sm));
+        } else {
+            DraftRegistry drafts = getDrafts(id.getSection());
+            dispatcher.submit(drafts.laneOf(id.getNumber()),
+                    () -> parseSelectionMenu(sm, drafts, id));
+        }
+    }
 }
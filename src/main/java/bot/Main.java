@@ -1,5 +1,7 @@
 package bot;
 
+import bot.Tools.Resolver;
+
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.JDABuilder;
 import net.dv8tion.jda.api.OnlineStatus;
@@ -178,7 +180,9 @@ public class Main {
         SubcommandData sub = new SubcommandData("sub",
                 "Reports draft scores for up to four players who subbed.");
         SubcommandData undo = new SubcommandData("undo",
-                "Reverts the previous draft command, once and only once.");
+                "Reverts the latest draft command which was not reverted yet.");
+        SubcommandData reload = new SubcommandData("reload",
+                "Reloads the leaderboard from the MIT section's spreadsheet.");
 
         SubcommandData add = new SubcommandData("add",
                 "Adds players into the designated area within MIT.");
@@ -256,13 +260,13 @@ public class Main {
         lp.addSubcommands(
                 genmaps, leaderboard,
                 startdraft, forcesub, forceend,
-                log, sub, undo,
+                log, sub, undo, reload,
                 add, deny, grad,
                 cycleCalculate, award);
         io.addSubcommands(
                 genmaps, leaderboard,
                 startdraft, forcesub, forceend,
-                log, sub, undo,
+                log, sub, undo, reload,
                 add, deny, grad,
                 cycleCalculate, award);
 
@@ -280,7 +284,7 @@ public class Main {
                     .setMemberCachePolicy(MemberCachePolicy.ALL)
                     .enableIntents(GatewayIntent.GUILD_PRESENCES)
                     .enableIntents(GatewayIntent.GUILD_MEMBERS)
-                    .addEventListeners(new Events())
+                    .addEventListeners(new Events(), Resolver.getInstance())
                     .build();
 
             // run only if all slash commands have not been implemented yet
@@ -0,0 +1,130 @@
+package bot.Tools;
+
+/**
+ * @author  Wil Aquino
+ * Date:    October 17, 2026
+ * Project: Libra
+ * Module:  ComponentID.java
+ * Purpose: Encodes and decodes the IDs of components, made of
+ *          an action, a section, and a draft number.
+ */
+public class ComponentID {
+
+    /** The character between each part of an ID. */
+    private static final char SEPARATOR = ':';
+
+    /** The length of a section within IDs made before separators. */
+    private static final int LEGACY_SECTION_LENGTH = 2;
+
+    /** The action the component performs, such as "join". */
+    private final String action;
+
+    /** The uppercase prefix of the component's section, such as "LP". */
+    private final String section;
+
+    /** The number of the component's draft. */
+    private final int number;
+
+    /**
+     * Constructs a decoded ID.
+     * @param action the action the component performs.
+     * @param section the uppercase prefix of the component's section.
+     * @param number the number of the component's draft.
+     */
+    private ComponentID(String action, String section, int number) {
+        this.action = action;
+        this.section = section;
+        this.number = number;
+    }
+
+    /**
+     * Builds the suffix shared by a draft's components.
+     * @param prefix the prefix of the draft's section.
+     * @param number the number of the draft.
+     * @return the suffix, such as ":LP:12".
+     */
+    public static String suffix(String prefix, int number) {
+        return SEPARATOR + prefix.toUpperCase() + SEPARATOR + number;
+    }
+
+    /**
+     * Decodes a component's ID.
+     * @param id the ID, such as "join:LP:12".
+     * @return the decoded ID.
+     *         null if it is malformed.
+     */
+    public static ComponentID parse(String id) {
+        int numberSeparator = id.lastIndexOf(SEPARATOR);
+        if (numberSeparator == -1) {
+            return parseLegacy(id);
+        }
+
+        int sectionSeparator = id.lastIndexOf(SEPARATOR, numberSeparator - 1);
+        int number = toNumber(id, numberSeparator + 1);
+        if (sectionSeparator < 1 || number == -1) {
+            return null;
+        }
+
+        return new ComponentID(id.substring(0, sectionSeparator),
+                id.substring(sectionSeparator + 1, numberSeparator), number);
+    }
+
+    /**
+     * Decodes a component's ID made before separators, which
+     * only fit single-digit draft numbers.
+     * @param id the ID, such as "joinLP1".
+     * @return the decoded ID.
+     *         null if it is malformed.
+     */
+    private static ComponentID parseLegacy(String id) {
+        int numberStart = id.length() - 1;
+        int sectionStart = numberStart - LEGACY_SECTION_LENGTH;
+        int number = toNumber(id, numberStart);
+        if (sectionStart < 1 || number == -1) {
+            return null;
+        }
+
+        return new ComponentID(id.substring(0, sectionStart),
+                id.substring(sectionStart, numberStart), number);
+    }
+
+    /**
+     * Reads the draft number ending an ID.
+     * @param id the ID to read.
+     * @param start the index of the number's first digit.
+     * @return said number.
+     *         -1 if it is missing or not a number.
+     */
+    private static int toNumber(String id, int start) {
+        if (start >= id.length()) {
+            return -1;
+        }
+
+        int number = 0;
+        for (int i = start; i < id.length(); i++) {
+            char digit = id.charAt(i);
+            if (digit < '0' || digit > '9'
+                    || number > (Integer.MAX_VALUE - 9) / 10) {
+                return -1;
+            }
+            number = number * 10 + (digit - '0');
+        }
+
+        return number;
+    }
+
+    /** Retrieves the action the component performs. */
+    public String getAction() {
+        return action;
+    }
+
+    /** Retrieves the uppercase prefix of the component's section. */
+    public String getSection() {
+        return section;
+    }
+
+    /** Retrieves the number of the component's draft. */
+    public int getNumber() {
+        return number;
+    }
+}
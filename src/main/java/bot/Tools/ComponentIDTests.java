@@ -0,0 +1,56 @@
+package bot.Tools;
+
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * @author  Wil Aquino
+ * Date:    October 17, 2026
+ * Project: Libra
+ * Module:  ComponentIDTests.java
+ * Purpose: Dedicated class for unit testing component IDs.
+ */
+public class ComponentIDTests {
+
+    /**
+     * Checks the parts of a decoded ID.
+     * @param id the ID to decode.
+     * @param action the expected action.
+     * @param section the expected section.
+     * @param number the expected draft number.
+     */
+    private void assertDecoded(String id, String action, String section,
+                               int number) {
+        ComponentID decoded = ComponentID.parse(id);
+        assertEquals(action, decoded.getAction());
+        assertEquals(section, decoded.getSection());
+        assertEquals(number, decoded.getNumber());
+    }
+
+    /** Tests if IDs with separators are decoded. */
+    @Test
+    public void testParse() {
+        assertDecoded("join:LP:12", "join", "LP", 12);
+        assertDecoded("helpMenu:MT:1", "helpMenu", "MT", 1);
+        assertDecoded("join" + ComponentID.suffix("io", 3), "join", "IO", 3);
+    }
+
+    /** Tests if IDs made before separators are decoded. */
+    @Test
+    public void testParseLegacy() {
+        assertDecoded("joinLP1", "join", "LP", 1);
+        assertDecoded("helpMenuMT1", "helpMenu", "MT", 1);
+    }
+
+    /** Tests if malformed IDs are rejected. */
+    @Test
+    public void testParseMalformed() {
+        assertNull(ComponentID.parse("x"));
+        assertNull(ComponentID.parse("a:b:"));
+        assertNull(ComponentID.parse("::1"));
+        assertNull(ComponentID.parse(":LP:1"));
+        assertNull(ComponentID.parse("joinLPx"));
+        assertNull(ComponentID.parse("join:LP:99999999999"));
+    }
+}
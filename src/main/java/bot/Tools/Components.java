@@ -8,6 +8,7 @@ import bot.Tools.DiscordBuilders.SelectionMenuBuilder;
 import net.dv8tion.jda.api.entities.Emoji;
 import net.dv8tion.jda.api.events.interaction.GenericInteractionCreateEvent;
 import net.dv8tion.jda.api.interactions.components.Button;
+import net.dv8tion.jda.api.interactions.components.selections.SelectOption;
 import net.dv8tion.jda.api.interactions.components.selections.SelectionMenu;
 
 import java.util.List;
@@ -15,6 +16,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.TreeMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * @author  Wil Aquino
@@ -26,6 +29,52 @@ import java.util.Map;
  */
 public class Components {
 
+    /** The components built for each draft, indexed by suffix. */
+    private static final Map<String, Cache> CACHES = new ConcurrentHashMap<>();
+
+    /** The last option of every team selection menu. */
+    private static final SelectOption END_OPTION = SelectOption.of("<end>", "0");
+
+    /** The components built for a draft, reused across refreshes. */
+    private static class Cache {
+
+        /** The draft's buttons, indexed by action. */
+        private final Map<String, Button> buttons = new ConcurrentHashMap<>();
+
+        /** The team selection options of players without a team. */
+        private final TreeMap<String, SelectOption> options = new TreeMap<>();
+
+        /** The team selection menu, or null if its options changed. */
+        private SelectionMenu menu;
+    }
+
+    /**
+     * Retrieves a draft's button, building it only once.
+     * @param action the action of the button.
+     * @param suffix the button ID's suffix.
+     * @param builder the builder of the button.
+     */
+    private static Button cached(String action, String suffix,
+                                 Supplier<Button> builder) {
+        Map<String, Button> buttons =
+                CACHES.computeIfAbsent(suffix, s -> new Cache()).buttons;
+        Button button = buttons.get(action);
+        if (button == null) {
+            button = builder.get();
+            buttons.putIfAbsent(action, button);
+        }
+
+        return button;
+    }
+
+    /**
+     * Forgets the components built for a draft.
+     * @param suffix the suffix of the draft's components.
+     */
+    public static void forget(String suffix) {
+        CACHES.remove(suffix);
+    }
+
     /** Components for general functions throughout MIT. */
     public static class ForGeneral {
 
@@ -78,8 +127,8 @@ public class Components {
          * @param suffix the button ID's suffix.
          */
         public static Button joinDraft(String suffix) {
-            return new ButtonBuilder("join" + suffix,
-                    "Join Draft", null, 0).getButton();
+            return cached("join", suffix, () -> new ButtonBuilder(
+                    "join" + suffix, "Join Draft", null, 0).getButton());
         }
 
         /**
@@ -87,8 +136,8 @@ public class Components {
          * @param suffix the button ID's suffix.
          */
         public static Button setupEarly(String suffix) {
-            return new ButtonBuilder("setupEarly" + suffix,
-                    "Start Early", null, 1).getButton();
+            return cached("setupEarly", suffix, () -> new ButtonBuilder(
+                    "setupEarly" + suffix, "Start Early", null, 1).getButton());
         }
 
         /**
@@ -96,8 +145,8 @@ public class Components {
          * @param suffix the button ID's suffix.
          */
         public static Button reping(String suffix) {
-            return new ButtonBuilder("reping" + suffix,
-                    "Reping", null, 0).getButton();
+            return cached("reping", suffix, () -> new ButtonBuilder(
+                    "reping" + suffix, "Reping", null, 0).getButton());
         }
 
         /**
@@ -105,8 +154,8 @@ public class Components {
          * @param suffix the button ID's suffix.
          */
         public static Button leave(String suffix) {
-            return new ButtonBuilder("leave" + suffix,
-                    "Leave", null, 3).getButton();
+            return cached("leave", suffix, () -> new ButtonBuilder(
+                    "leave" + suffix, "Leave", null, 3).getButton());
         }
 
         /**
@@ -114,9 +163,9 @@ public class Components {
          * @param suffix the button ID's suffix.
          */
         public static Button refresh(String suffix) {
-            return new ButtonBuilder("requestRefresh" + suffix,
-                    "update", "788354776999526410",
-                    null, 2).getButton();
+            return cached("requestRefresh", suffix, () -> new ButtonBuilder(
+                    "requestRefresh" + suffix, "update", "788354776999526410",
+                    null, 2).getButton());
         }
 
         /**
@@ -124,8 +173,8 @@ public class Components {
          * @param suffix the menu ID's suffix.
          */
         public static Button reassignCaptain(String suffix) {
-            return new ButtonBuilder("reassign" + suffix,
-                    "Reassign", null, 0).getButton();
+            return cached("reassign", suffix, () -> new ButtonBuilder(
+                    "reassign" + suffix, "Reassign", null, 0).getButton());
         }
 
         /**
@@ -133,8 +182,8 @@ public class Components {
          * @param suffix the button ID's suffix.
          */
         public static Button requestSub(String suffix) {
-            return new ButtonBuilder("requestSub" + suffix,
-                    "Sub Out", null, 3).getButton();
+            return cached("requestSub", suffix, () -> new ButtonBuilder(
+                    "requestSub" + suffix, "Sub Out", null, 3).getButton());
         }
 
         /**
@@ -142,8 +191,8 @@ public class Components {
          * @param suffix the button ID's suffix.
          */
         public static Button joinAsSub(String suffix) {
-            return new ButtonBuilder("sub" + suffix,
-                    "Join as Sub", null, 0).getButton();
+            return cached("sub", suffix, () -> new ButtonBuilder(
+                    "sub" + suffix, "Join as Sub", null, 0).getButton());
         }
     }
 
@@ -159,24 +208,44 @@ public class Components {
          */
         public static SelectionMenu teamSelectionMenu(
                 String suffix, TreeMap<String, ? extends Player> players) {
-            List<String> labels = new ArrayList<>();
-            List<String> values = new ArrayList<>();
-
-            for (Map.Entry<String, ? extends Player> mapping : players.entrySet()) {
-                String id = mapping.getKey();
-                Player player = mapping.getValue();
+            Cache cache = CACHES.computeIfAbsent(suffix, s -> new Cache());
+            synchronized (cache) {
+                int numOptions = 0;
+                for (Map.Entry<String, ? extends Player> mapping : players.entrySet()) {
+                    String id = mapping.getKey();
+                    Player player = mapping.getValue();
+                    boolean selectable = player.isActive() && !player.hasTeam();
+
+                    if (selectable) {
+                        numOptions++;
+                    }
+                    if (selectable != cache.options.containsKey(id)) {
+                        if (selectable) {
+                            cache.options.put(id,
+                                    SelectOption.of(player.getName(), id));
+                        } else {
+                            cache.options.remove(id);
+                        }
+                        cache.menu = null;
+                    }
+                }
 
-                if (player.isActive() && !player.hasTeam()) {
-                    labels.add(player.getName());
-                    values.add(id);
+                // players who left the draft entirely
+                if (cache.options.size() > numOptions) {
+                    cache.options.keySet().retainAll(players.keySet());
+                    cache.menu = null;
                 }
-            }
 
-            labels.add("<end>");
-            values.add("0");
+                if (cache.menu == null) {
+                    List<SelectOption> options =
+                            new ArrayList<>(cache.options.values());
+                    options.add(END_OPTION);
+                    cache.menu = new SelectionMenuBuilder(
+                            "teamSelection" + suffix, options).getMenu();
+                }
 
-            return new SelectionMenuBuilder("teamSelection" + suffix,
-                    labels, values, null).getMenu();
+                return cache.menu;
+            }
         }
 
         /**
@@ -184,8 +253,8 @@ public class Components {
          * @param suffix the button ID's suffix.
          */
         public static Button resetTeams(String suffix) {
-            return new ButtonBuilder("resetTeams" + suffix,
-                    "Reset Teams", null, 0).getButton();
+            return cached("resetTeams", suffix, () -> new ButtonBuilder(
+                    "resetTeams" + suffix, "Reset Teams", null, 0).getButton());
         }
 
         /**
@@ -193,8 +262,8 @@ public class Components {
          * @param suffix the button ID's suffix.
          */
         public static Button beginDraft(String suffix) {
-            return new ButtonBuilder("beginDraft" + suffix,
-                    "Begin Draft", null, 1).getButton();
+            return cached("beginDraft", suffix, () -> new ButtonBuilder(
+                    "beginDraft" + suffix, "Begin Draft", null, 1).getButton());
         }
 
         /**
@@ -202,9 +271,9 @@ public class Components {
          * @param suffix the button ID's suffix.
          */
         public static Button refresh(String suffix) {
-            return new ButtonBuilder("processRefresh" + suffix,
-                    "update", "788354776999526410",
-                    null, 2).getButton();
+            return cached("processRefresh", suffix, () -> new ButtonBuilder(
+                    "processRefresh" + suffix, "update", "788354776999526410",
+                    null, 2).getButton());
         }
 
         /**
@@ -212,8 +281,8 @@ public class Components {
          * @param suffix the button ID's suffix.
          */
         public static Button plusOne(String suffix) {
-            return new ButtonBuilder("plusOne" + suffix,
-                    "+1", null, 0).getButton();
+            return cached("plusOne", suffix, () -> new ButtonBuilder(
+                    "plusOne" + suffix, "+1", null, 0).getButton());
         }
 
         /**
@@ -221,8 +290,8 @@ public class Components {
          * @param suffix the button ID's suffix.
          */
         public static Button minusOne(String suffix) {
-            return new ButtonBuilder("minusOne" + suffix,
-                    "-1", null, 0).getButton();
+            return cached("minusOne", suffix, () -> new ButtonBuilder(
+                    "minusOne" + suffix, "-1", null, 0).getButton());
         }
 
         /**
@@ -230,8 +299,8 @@ public class Components {
          * @param suffix the button ID's suffix.
          */
         public static Button nextTurn(String suffix) {
-            return new ButtonBuilder("nextTurn" + suffix,
-                    "Next Turn", null, 0).getButton();
+            return cached("nextTurn", suffix, () -> new ButtonBuilder(
+                    "nextTurn" + suffix, "Next Turn", null, 0).getButton());
         }
 
         /**
@@ -242,9 +311,9 @@ public class Components {
          */
         public static Button draftSubLink(GenericInteractionCreateEvent interaction,
                                           String suffix, GameReqs draft) {
-            String url = draft.getMessage(interaction).getJumpUrl();
-            return new ButtonBuilder("requestSubLink" + suffix,
-                    "Request Sub", url, 4).getButton();
+            return cached("requestSubLink", suffix, () -> new ButtonBuilder(
+                    "requestSubLink" + suffix, "Request Sub",
+                    draft.getMessage(interaction).getJumpUrl(), 4).getButton());
         }
 
         /**
@@ -252,8 +321,8 @@ public class Components {
          * @param suffix the button ID's suffix.
          */
         public static Button endDraftProcess(String suffix) {
-            return new ButtonBuilder("endDraftProcess" + suffix,
-                    "End Draft", null, 3).getButton();
+            return cached("endDraftProcess", suffix, () -> new ButtonBuilder(
+                    "endDraftProcess" + suffix, "End Draft", null, 3).getButton());
         }
     }
 }
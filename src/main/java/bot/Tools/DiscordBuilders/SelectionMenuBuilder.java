@@ -1,6 +1,7 @@
 package bot.Tools.DiscordBuilders;
 
 import net.dv8tion.jda.api.entities.Emoji;
+import net.dv8tion.jda.api.interactions.components.selections.SelectOption;
 import net.dv8tion.jda.api.interactions.components.selections.SelectionMenu;
 
 import java.util.List;
@@ -38,6 +39,15 @@ public class SelectionMenuBuilder {
         menu = menuBuilder.build();
     }
 
+    /**
+     * Builds a selection menu from prebuilt options.
+     * @param menuID the ID of the menu.
+     * @param options the options of the menu.
+     */
+    public SelectionMenuBuilder(String menuID, List<SelectOption> options) {
+        menu = SelectionMenu.create(menuID).addOptions(options).build();
+    }
+
     /**
      * Retrieves the built selection menu.
      */
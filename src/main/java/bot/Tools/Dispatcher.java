@@ -0,0 +1,106 @@
+package bot.Tools;
+
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * @author  Wil Aquino
+ * Date:    October 17, 2026
+ * Project: Libra
+ * Module:  Dispatcher.java
+ * Purpose: Runs interaction handlers off of JDA's event thread,
+ *          keeping tasks with the same key in order.
+ */
+public class Dispatcher {
+
+    /** Maximum amount of handlers allowed to run at once. */
+    private static final int MAX_RUNNING = 16;
+
+    /** The executor which runs the handlers. */
+    private final ExecutorService workers;
+
+    /** Permits for running handlers, bounding how many run at once. */
+    private final Semaphore running;
+
+    /** The last task submitted for each key. */
+    private final Map<Object, CompletableFuture<Void>> lanes;
+
+    /** Constructs a dispatcher with a bounded pool of workers. */
+    public Dispatcher() {
+        workers = newWorkers();
+        running = new Semaphore(MAX_RUNNING);
+        lanes = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Builds the executor for the handlers, using virtual threads
+     * if the running JDK has them.
+     * @return said executor.
+     */
+    private static ExecutorService newWorkers() {
+        try {
+            return (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(MAX_RUNNING, task -> {
+                Thread worker = new Thread(task, "libra-worker");
+                worker.setDaemon(true);
+                return worker;
+            });
+        }
+    }
+
+    /**
+     * Runs a task once a permit is free, logging any failure.
+     * @param task the task to run.
+     */
+    private void runBounded(Runnable task) {
+        try {
+            running.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            LoggerFactory.getLogger(this.getClass())
+                    .error("An interaction handler failed.", e);
+        } finally {
+            running.release();
+        }
+    }
+
+    /**
+     * Runs a task on a worker.
+     * @param key the key of the task, where tasks with the same key
+     *            run one at a time in the order they were submitted.
+     *            null if the task can run alongside any other.
+     * @param task the task to run.
+     */
+    public void submit(Object key, Runnable task) {
+        if (key == null) {
+            workers.execute(() -> runBounded(task));
+            return;
+        }
+
+        CompletableFuture<Void> next = lanes.compute(key, (k, tail) -> {
+            if (tail == null) {
+                return CompletableFuture.runAsync(
+                        () -> runBounded(task), workers);
+            }
+
+            return tail.exceptionally(e -> null)
+                    .thenRunAsync(() -> runBounded(task), workers);
+        });
+        next.whenComplete((ignored, e) -> lanes.remove(key, next));
+    }
+}
@@ -0,0 +1,225 @@
+package bot.Tools;
+
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+import net.dv8tion.jda.api.events.interaction.GenericComponentInteractionCreateEvent;
+import net.dv8tion.jda.api.events.interaction.GenericInteractionCreateEvent;
+import net.dv8tion.jda.api.interactions.InteractionHook;
+import net.dv8tion.jda.api.interactions.components.ActionRow;
+import net.dv8tion.jda.api.requests.restaction.WebhookMessageUpdateAction;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author  Wil Aquino
+ * Date:    October 17, 2026
+ * Project: Libra
+ * Module:  EditCoalescer.java
+ * Purpose: Edits interaction messages at most once per interval,
+ *          sending only the latest state of each message.
+ */
+public class EditCoalescer {
+
+    /** Minimum time between edits of a message, in milliseconds. */
+    private static final long EDIT_INTERVAL = 1000;
+
+    /** The thread which sends every delayed edit. */
+    private static final ScheduledExecutorService FLUSHER =
+            Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread flusher = new Thread(task, "libra-edit-flusher");
+                flusher.setDaemon(true);
+                return flusher;
+            });
+
+    /** The coalescer shared by every interaction. */
+    private static final EditCoalescer COALESCER =
+            new EditCoalescer(EDIT_INTERVAL);
+
+    /** The edits of each message, indexed by message ID. */
+    private final Map<String, Edit> edits;
+
+    /** Minimum time between edits of a message, in milliseconds. */
+    private final long interval;
+
+    /** The latest unsent state of a message. */
+    private static class Edit {
+
+        /** The hook of the latest interaction with the message. */
+        private InteractionHook hook;
+
+        /** The message's text, or null if unchanged. */
+        private String content;
+
+        /** The message's embeds, or null if unchanged. */
+        private List<MessageEmbed> embeds;
+
+        /** The message's components, or null if unchanged. */
+        private ActionRow[] rows;
+
+        /** Whether the message must wait for the interval to pass. */
+        private boolean waiting;
+    }
+
+    /**
+     * Constructs an empty coalescer.
+     * @param interval minimum time between edits of a message,
+     *                 in milliseconds.
+     */
+    private EditCoalescer(long interval) {
+        edits = new HashMap<>();
+        this.interval = interval;
+    }
+
+    /** Retrieves the coalescer shared by every interaction. */
+    public static EditCoalescer getInstance() {
+        return COALESCER;
+    }
+
+    /**
+     * Identifies the message an interaction edits.
+     * @param interaction the user interaction editing the message.
+     * @return the ID of the clicked message, or of the interaction
+     *         itself for commands.
+     */
+    private static String keyOf(GenericInteractionCreateEvent interaction) {
+        if (interaction instanceof GenericComponentInteractionCreateEvent) {
+            return ((GenericComponentInteractionCreateEvent) interaction)
+                    .getMessageId();
+        }
+
+        return interaction.getId();
+    }
+
+    /**
+     * Edits the text, embeds, and components of an interaction's
+     * message together, so no half-updated state is ever shown.
+     * @param interaction the user interaction editing the message.
+     * @param content the new text.
+     * @param embeds the new embeds.
+     * @param rows the new components, or none to keep the current ones.
+     *
+     * Note: The interaction must have been acknowledged before
+     *       this method.
+     */
+    public void edit(GenericInteractionCreateEvent interaction,
+                     String content, List<MessageEmbed> embeds,
+                     ActionRow... rows) {
+        queue(interaction, content, embeds, rows.length == 0 ? null : rows);
+    }
+
+    /**
+     * Edits the text of an interaction's message.
+     * @param interaction the user interaction editing the message.
+     * @param content the new text.
+     *
+     * Note: The interaction must have been acknowledged before
+     *       this method.
+     */
+    public void editContent(GenericInteractionCreateEvent interaction,
+                            String content) {
+        queue(interaction, content, null, null);
+    }
+
+    /**
+     * Edits the embeds of an interaction's message.
+     * @param interaction the user interaction editing the message.
+     * @param embeds the new embeds.
+     *
+     * Note: The interaction must have been acknowledged before
+     *       this method.
+     */
+    public void editEmbeds(GenericInteractionCreateEvent interaction,
+                           List<MessageEmbed> embeds) {
+        queue(interaction, null, embeds, null);
+    }
+
+    /**
+     * Drops a message's unsent changes, so they cannot overwrite
+     * an edit made to it directly.
+     * @param messageID the ID of the message.
+     */
+    public synchronized void discard(String messageID) {
+        Edit edit = edits.get(messageID);
+        if (edit != null) {
+            edit.content = null;
+            edit.embeds = null;
+            edit.rows = null;
+        }
+    }
+
+    /**
+     * Merges a change into a message's latest state, sending it now
+     * if the message was not edited within the interval.
+     * @param interaction the user interaction editing the message.
+     * @param content the new text, or null if unchanged.
+     * @param embeds the new embeds, or null if unchanged.
+     * @param rows the new components, or null if unchanged.
+     */
+    private synchronized void queue(GenericInteractionCreateEvent interaction,
+                                    String content, List<MessageEmbed> embeds,
+                                    ActionRow[] rows) {
+        String key = keyOf(interaction);
+        Edit edit = edits.computeIfAbsent(key, k -> new Edit());
+        edit.hook = interaction.getHook();
+        if (content != null) {
+            edit.content = content;
+        }
+        if (embeds != null) {
+            edit.embeds = embeds;
+        }
+        if (rows != null) {
+            edit.rows = rows;
+        }
+
+        if (!edit.waiting) {
+            send(key, edit);
+        }
+    }
+
+    /**
+     * Sends a message's latest state, if it changed during the
+     * interval, or forgets the message otherwise.
+     * @param key the ID of the message.
+     */
+    private synchronized void flush(String key) {
+        Edit edit = edits.get(key);
+        if (edit.content == null && edit.embeds == null) {
+            edits.remove(key);
+        } else {
+            send(key, edit);
+        }
+    }
+
+    /**
+     * Sends a message's latest state, holding later changes
+     * until the interval passes.
+     * @param key the ID of the message.
+     * @param edit the latest state of the message.
+     */
+    private void send(String key, Edit edit) {
+        WebhookMessageUpdateAction<Message> action;
+        if (edit.content != null) {
+            action = edit.hook.editOriginal(edit.content);
+            if (edit.embeds != null) {
+                action = action.setEmbeds(edit.embeds);
+            }
+        } else {
+            action = edit.hook.editOriginalEmbeds(edit.embeds);
+        }
+        if (edit.rows != null) {
+            action = action.setActionRows(edit.rows);
+        }
+        action.queue();
+
+        edit.content = null;
+        edit.embeds = null;
+        edit.rows = null;
+        edit.waiting = true;
+        FLUSHER.schedule(() -> flush(key), interval, TimeUnit.MILLISECONDS);
+    }
+}
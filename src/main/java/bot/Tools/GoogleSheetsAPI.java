@@ -9,6 +9,7 @@ import com.google.api.client.extensions.java6.auth.oauth2.AuthorizationCodeInsta
 import com.google.api.client.extensions.jetty.auth.oauth2.LocalServerReceiver;
 import com.google.api.client.googleapis.auth.oauth2.GoogleAuthorizationCodeFlow;
 import com.google.api.client.googleapis.auth.oauth2.GoogleClientSecrets;
+import com.google.api.client.googleapis.services.AbstractGoogleClientRequest;
 import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
 import com.google.api.client.http.javanet.NetHttpTransport;
 import com.google.api.client.json.gson.GsonFactory;
@@ -30,7 +31,9 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.security.GeneralSecurityException;
 
 /**
@@ -43,20 +46,66 @@ import java.security.GeneralSecurityException;
  */
 public class GoogleSheetsAPI {
 
+    /** The Google Sheets SDK link shared by every spreadsheet connection. */
+    private static Sheets sharedService;
+
+    /** Established spreadsheet connections, indexed by spreadsheet ID. */
+    private static final Map<String, GoogleSheetsAPI> LINKS =
+            new ConcurrentHashMap<>();
+
+    /** Input option storing written values exactly as given. */
+    public static final String RAW = "RAW";
+
+    /** Input option parsing written values as if typed into the sheet. */
+    public static final String USER_ENTERED = "USER_ENTERED";
+
+    /** The tab IDs of each spreadsheet, indexed by spreadsheet ID, then tab name. */
+    private static final Map<String, Map<String, Integer>> SHEET_IDS =
+            new ConcurrentHashMap<>();
+
     /** Field for a Google Sheets SDK link. */
     private final Sheets sheetsService;
 
     /** ID of the Google Sheet being used. */
     private final String spreadsheetID;
 
+    /** Whether a user is waiting on this connection's requests. */
+    private final boolean interactive;
+
     /**
      * Constructs a connection with a spreadsheet based on a provided
      * Google Sheet's ID.
+     * @param service the Google Sheets SDK link to use.
      * @param id the ID of the Google Sheet.
+     * @param isInteractive whether a user is waiting on the requests.
      */
-    public GoogleSheetsAPI(String id) throws IOException, GeneralSecurityException {
-        sheetsService = getSheetsService();
+    private GoogleSheetsAPI(Sheets service, String id,
+                            boolean isInteractive) {
+        sheetsService = service;
         spreadsheetID = id;
+        interactive = isInteractive;
+    }
+
+    /**
+     * Retrieves the connection with a spreadsheet based on a provided
+     * Google Sheet's ID, establishing it if one does not exist yet.
+     * @param id the ID of the Google Sheet.
+     * @return the connection to the spreadsheet.
+     *
+     * Note: Every connection reuses one HTTP transport, one
+     *       authorized credential and one Google Sheets service,
+     *       so only the very first call reads the credentials.
+     */
+    public static GoogleSheetsAPI linkTo(String id)
+            throws IOException, GeneralSecurityException {
+        GoogleSheetsAPI link = LINKS.get(id);
+        if (link == null) {
+            Sheets service = getSheetsService();
+            link = LINKS.computeIfAbsent(id,
+                    newID -> new GoogleSheetsAPI(service, newID, true));
+        }
+
+        return link;
     }
 
     /**
@@ -69,7 +118,7 @@ public class GoogleSheetsAPI {
      *       made using Google Sheets. See the following link for more information:
      *       https://developers.google.com/workspace/guides/create-credentials
      */
-    private Credential getCredential(NetHttpTransport httpTransport)
+    private static Credential getCredential(NetHttpTransport httpTransport)
             throws IOException {
         // disable Google API warning
         final java.util.logging.Logger buggyLogger =
@@ -104,15 +153,44 @@ public class GoogleSheetsAPI {
     }
 
     /**
-     * Constructs the Google Sheets service link.
+     * Constructs the Google Sheets service link, if it has not
+     * been constructed already.
      * @return the service link.
      */
-    private Sheets getSheetsService()
+    private static synchronized Sheets getSheetsService()
             throws IOException, GeneralSecurityException {
-        NetHttpTransport httpTransport = GoogleNetHttpTransport.newTrustedTransport();
-        return new Sheets.Builder(httpTransport, GsonFactory.getDefaultInstance(), getCredential(httpTransport))
-                .setApplicationName(Main.NAME)
-                .build();
+        if (sharedService == null) {
+            NetHttpTransport httpTransport = GoogleNetHttpTransport.newTrustedTransport();
+            sharedService = new Sheets.Builder(httpTransport, GsonFactory.getDefaultInstance(), getCredential(httpTransport))
+                    .setApplicationName(Main.NAME)
+                    .build();
+        }
+
+        return sharedService;
+    }
+
+    /**
+     * Retrieves a connection to the same spreadsheet whose requests
+     * yield to those of interactive commands.
+     * @return the background connection.
+     */
+    public GoogleSheetsAPI inBackground() {
+        return new GoogleSheetsAPI(sheetsService, spreadsheetID, false);
+    }
+
+    /**
+     * Sends a request through the shared scheduler, so it stays
+     * within the quota and is retried if throttled.
+     * @param request the request to send.
+     * @param idempotent whether the request may also be retried
+     *                   after a server error, as sending it twice
+     *                   has the same effect as sending it once.
+     * @return the response of the request.
+     */
+    private <T> T send(AbstractGoogleClientRequest<T> request,
+                       boolean idempotent) throws IOException {
+        return SheetsScheduler.getInstance().execute(
+                request, interactive, idempotent);
     }
 
     /**
@@ -128,9 +206,33 @@ public class GoogleSheetsAPI {
      * @return said list of values.
      */
     public List<List<Object>> getSheetValues(String tab) throws IOException {
-        return getSheet().get(getSpreadsheetID(), String.format("'%s'", tab))
+        return getValues(String.format("'%s'", tab));
+    }
+
+    /**
+     * Retrieves a range of columns from a tab of the spreadsheet.
+     * @param tab the tab to retrieve data from.
+     * @param startColumn the first column to retrieve.
+     * @param endColumn the last column to retrieve.
+     * @return said list of values.
+     */
+    public List<List<Object>> getSheetValues(String tab, String startColumn,
+                                             String endColumn)
+            throws IOException {
+        return getValues(String.format("'%s'!%s:%s",
+                tab, startColumn, endColumn));
+    }
+
+    /**
+     * Retrieves the unformatted values of a range, leaving
+     * every other field out of the response.
+     * @param range the range to retrieve.
+     * @return said list of values.
+     */
+    private List<List<Object>> getValues(String range) throws IOException {
+        return send(getSheet().get(getSpreadsheetID(), range)
                 .setValueRenderOption("UNFORMATTED_VALUE")
-                .execute().getValues();
+                .setFields("values"), true).getValues();
     }
 
     /**
@@ -141,76 +243,97 @@ public class GoogleSheetsAPI {
     }
 
     /**
-     * Retrieves the sheet ID for the spreadsheet's tab.
+     * Downloads the ID of every tab, and nothing else, from the spreadsheet.
+     * @return the tab IDs, indexed by tab name.
+     */
+    private Map<String, Integer> loadSheetIDs() throws IOException {
+        List<Sheet> allSheets = send(sheetsService.spreadsheets()
+                .get(getSpreadsheetID())
+                .setFields("sheets.properties(sheetId,title)"), true)
+                .getSheets();
+
+        Map<String, Integer> ids = new ConcurrentHashMap<>();
+        for (Sheet sheet : allSheets) {
+            SheetProperties properties = sheet.getProperties();
+            ids.put(properties.getTitle(), properties.getSheetId());
+        }
+
+        SHEET_IDS.put(getSpreadsheetID(), ids);
+        return ids;
+    }
+
+    /**
+     * Retrieves the sheet ID for the spreadsheet's tab, downloading
+     * the tab IDs only if it is not known yet.
      * @param tab the specific tab of the spreadsheet.
      * @return said ID.
      *         -1, otherwise.
      */
     private int getSheetID(String tab) throws IOException {
-        List<Sheet> allSheets = sheetsService.spreadsheets()
-                .get(getSpreadsheetID()).execute().getSheets();
-
-        for (Sheet sheet : allSheets) {
-            SheetProperties properties = sheet.getProperties();
-            if (tab.equals(properties.getTitle())) {
-                return properties.getSheetId();
-            }
+        Map<String, Integer> ids = SHEET_IDS.get(getSpreadsheetID());
+        if (ids == null || !ids.containsKey(tab)) {
+            ids = loadSheetIDs();
         }
 
-        return -1;
+        return ids.getOrDefault(tab, -1);
     }
 
     /**
      * Retrieves a specific type of row from the spreadsheet.
      * @param interaction the user interaction calling this method.
      * @param tab the specific tab of the spreadsheet.
-     * @param i the current row in the spreadsheet, offset by 1.
-     * @param row the actual row of this entry.
+     * @param pos the row's position in the spreadsheet.
+     * @param row the actual row of this entry, after its ID.
      * @return the classified row.
      *         null otherwise.
      */
     private Object getSpecificRow(GenericInteractionCreateEvent interaction,
-                           String tab, int i, List<Object> row) {
+                           String tab, int pos, List<Object> row) {
         if (tab.equals("Current Cycle")) {
             return new PlayerStats(
-                    interaction, i + 1, row);
+                    interaction, pos, row);
         } else if (tab.equals("Profiles")) {
             return new PlayerInfo(
-                    interaction, i + 1, row);
+                    interaction, pos, row);
         }
 
         return null;
     }
 
     /**
-     * Retrieves a specific tab of the spreadsheet, indexing
-     * by the first column.
+     * Retrieves a specific tab of the spreadsheet, indexing only
+     * the first column and decoding each row when first looked up.
      * @param interaction the user interaction calling this method.
      * @param tab the name of the spreadsheet section.
-     * @return said section as a map, indexed by Discord ID.
-     *         null otherwise.
+     * @param endColumn the last column the section's rows need.
+     * @return said section, indexed by Discord ID.
      */
-    public TreeMap<Object, Object> readSection(
-            GenericInteractionCreateEvent interaction, String tab)
-            throws IOException {
-        List<List<Object>> values = getSheetValues(tab);
-
-        TreeMap<Object, Object> data = new TreeMap<>();
-        if (!values.isEmpty()) {
-            for (int i = 1; i < values.size(); i++) {
-                List<Object> row = values.get(i);
-                Object id = row.remove(0);
-                Object rowType = getSpecificRow(interaction, tab, i, row);
-
-                data.put(id, rowType);
-            }
-        } else {
+    public SectionView viewSection(
+            GenericInteractionCreateEvent interaction, String tab,
+            String endColumn) throws IOException {
+        List<List<Object>> values = getSheetValues(tab, "A", endColumn);
+        if (values == null || values.isEmpty()) {
             LoggerFactory.getLogger(this.getClass())
                     .error("The spreadsheet was empty.");
             throw new IOException();
         }
 
-        return data;
+        return new SectionView(values,
+                (pos, row) -> getSpecificRow(interaction, tab, pos, row));
+    }
+
+    /**
+     * Retrieves a specific tab of the spreadsheet, indexing
+     * by the first column.
+     * @param interaction the user interaction calling this method.
+     * @param tab the name of the spreadsheet section.
+     * @param endColumn the last column the section's rows need.
+     * @return said section as a map, indexed by Discord ID.
+     */
+    public TreeMap<Object, Object> readSection(
+            GenericInteractionCreateEvent interaction, String tab,
+            String endColumn) throws IOException {
+        return viewSection(interaction, tab, endColumn).toMap();
     }
 
     /**
@@ -220,28 +343,31 @@ public class GoogleSheetsAPI {
      */
     public void renameTab(String tab, String name)
             throws IOException, GeneralSecurityException {
-        List<Sheet> allSheets = sheetsService.spreadsheets()
-                .get(getSpreadsheetID()).execute().getSheets();
+        int sheetID = getSheetID(tab);
+        if (sheetID == -1) {
+            return;
+        }
 
-        for (Sheet sheet : allSheets) {
-            String title = sheet.getProperties().getTitle();
-            if (title.equals(tab)) {
-                SheetProperties properties = sheet.getProperties();
-                properties.setTitle(name);
+        SheetProperties properties = new SheetProperties()
+                .setSheetId(sheetID)
+                .setTitle(name);
 
-                UpdateSheetPropertiesRequest updateReq = new UpdateSheetPropertiesRequest();
-                updateReq.setFields("*").setProperties(properties);
+        UpdateSheetPropertiesRequest updateReq = new UpdateSheetPropertiesRequest();
+        updateReq.setFields("title").setProperties(properties);
 
-                Request req = new Request();
-                req.setUpdateSheetProperties(updateReq);
+        Request req = new Request();
+        req.setUpdateSheetProperties(updateReq);
 
-                BatchUpdateSpreadsheetRequest batchReq = new BatchUpdateSpreadsheetRequest();
-                batchReq.setRequests(Collections.singletonList(req));
+        BatchUpdateSpreadsheetRequest batchReq = new BatchUpdateSpreadsheetRequest();
+        batchReq.setRequests(Collections.singletonList(req));
 
-                getSheetsService().spreadsheets()
-                        .batchUpdate(getSpreadsheetID(), batchReq).execute();
-                break;
-            }
+        send(sheetsService.spreadsheets()
+                .batchUpdate(getSpreadsheetID(), batchReq), false);
+
+        Map<String, Integer> ids = SHEET_IDS.get(getSpreadsheetID());
+        if (ids != null) {
+            ids.remove(tab);
+            ids.put(name, sheetID);
         }
     }
 
@@ -266,8 +392,15 @@ public class GoogleSheetsAPI {
 
         BatchUpdateSpreadsheetRequest batchReq = new BatchUpdateSpreadsheetRequest();
         batchReq.setRequests(Collections.singletonList(req));
-        getSheetsService().spreadsheets()
-                .batchUpdate(getSpreadsheetID(), batchReq).execute();
+        BatchUpdateSpreadsheetResponse response = send(sheetsService.spreadsheets()
+                .batchUpdate(getSpreadsheetID(), batchReq), false);
+
+        Map<String, Integer> ids = SHEET_IDS.get(getSpreadsheetID());
+        if (ids != null) {
+            SheetProperties duplicate = response.getReplies().get(0)
+                    .getDuplicateSheet().getProperties();
+            ids.put(duplicate.getTitle(), duplicate.getSheetId());
+        }
     }
 
     /**
@@ -289,7 +422,7 @@ public class GoogleSheetsAPI {
         if (sheetID == -1) {
             throw new IOException();
         }
-        gr.setSheetId(getSheetID(tab));
+        gr.setSheetId(sheetID);
         gr.setStartRowIndex(1);
         gr.setEndRowIndex(numRows + 1);
         gr.setStartColumnIndex(0);
@@ -304,7 +437,8 @@ public class GoogleSheetsAPI {
 
         BatchUpdateSpreadsheetRequest busReq = new BatchUpdateSpreadsheetRequest();
         busReq.setRequests(Collections.singletonList(req));
-        sheetsService.spreadsheets().batchUpdate(getSpreadsheetID(), busReq).execute();
+        send(sheetsService.spreadsheets()
+                .batchUpdate(getSpreadsheetID(), busReq), false);
     }
 
     /**
@@ -344,28 +478,116 @@ public class GoogleSheetsAPI {
     }
 
     /**
-     * Appends a row to the end of a spreadsheet.
+     * Appends a row to the end of a spreadsheet, storing its values as given.
      * @param tab the name of the spreadsheet tab to add to.
      * @param row the row of values to append.
      */
     public void appendRow(String tab, ValueRange row)
         throws IOException {
-        getSheet().append(getSpreadsheetID(), String.format("'%s'", tab), row)
-                .setValueInputOption("USER_ENTERED")
+        appendRow(tab, row, RAW);
+    }
+
+    /**
+     * Appends a row to the end of a spreadsheet.
+     * @param tab the name of the spreadsheet tab to add to.
+     * @param row the row of values to append.
+     * @param inputOption how to interpret the values, RAW or USER_ENTERED.
+     */
+    public void appendRow(String tab, ValueRange row, String inputOption)
+        throws IOException {
+        send(getSheet().append(getSpreadsheetID(), String.format("'%s'", tab), row)
+                .setValueInputOption(inputOption)
                 .setInsertDataOption("INSERT_ROWS")
-                .setIncludeValuesInResponse(true).execute();
+                .setIncludeValuesInResponse(false), false);
     }
 
     /**
-     * Updates a range of values within a spreadsheet.
+     * Appends a row to the end of a spreadsheet, reading back
+     * the values as the spreadsheet stored them.
+     * @param tab the name of the spreadsheet tab to add to.
+     * @param row the row of values to append.
+     * @param inputOption how to interpret the values, RAW or USER_ENTERED.
+     * @return the written values, along with their range.
+     */
+    public ValueRange appendRowAndRead(String tab, ValueRange row,
+                                       String inputOption)
+        throws IOException {
+        return send(getSheet().append(getSpreadsheetID(), String.format("'%s'", tab), row)
+                .setValueInputOption(inputOption)
+                .setInsertDataOption("INSERT_ROWS")
+                .setIncludeValuesInResponse(true), false)
+                .getUpdates().getUpdatedData();
+    }
+
+    /**
+     * Updates a range of values within a spreadsheet, storing them as given.
      * @param range the range of values to update.
      * @param values the values to update to.
      */
     public void updateRange(String range, ValueRange values)
             throws IOException {
-        getSheet().update(getSpreadsheetID(), range, values)
-                .setValueInputOption("USER_ENTERED")
-                .setIncludeValuesInResponse(true).execute();
+        updateRange(range, values, RAW);
+    }
+
+    /**
+     * Updates a range of values within a spreadsheet.
+     * @param range the range of values to update.
+     * @param values the values to update to.
+     * @param inputOption how to interpret the values, RAW or USER_ENTERED.
+     */
+    public void updateRange(String range, ValueRange values,
+                            String inputOption)
+            throws IOException {
+        send(getSheet().update(getSpreadsheetID(), range, values)
+                .setValueInputOption(inputOption)
+                .setIncludeValuesInResponse(false), true);
+    }
+
+    /**
+     * Updates a range of values within a spreadsheet, reading back
+     * the values as the spreadsheet stored them.
+     * @param range the range of values to update.
+     * @param values the values to update to.
+     * @param inputOption how to interpret the values, RAW or USER_ENTERED.
+     * @return the written values, along with their range.
+     */
+    public ValueRange updateRangeAndRead(String range, ValueRange values,
+                                         String inputOption)
+            throws IOException {
+        return send(getSheet().update(getSpreadsheetID(), range, values)
+                .setValueInputOption(inputOption)
+                .setIncludeValuesInResponse(true), true).getUpdatedData();
+    }
+
+    /**
+     * Updates several ranges of values within a spreadsheet at once.
+     * @param data the values to update, each holding its own range.
+     * @param inputOption how to interpret the values, RAW or USER_ENTERED.
+     */
+    public void batchUpdate(List<ValueRange> data, String inputOption)
+            throws IOException {
+        BatchUpdateValuesRequest body = new BatchUpdateValuesRequest()
+                .setValueInputOption(inputOption)
+                .setIncludeValuesInResponse(false)
+                .setData(data);
+        send(getSheet().batchUpdate(getSpreadsheetID(), body), true);
+    }
+
+    /**
+     * Starts a batch of writes to this spreadsheet.
+     * @return the empty batch.
+     */
+    public SheetsBatch newBatch() {
+        return new SheetsBatch(this, RAW);
+    }
+
+    /**
+     * Starts a batch of writes to this spreadsheet.
+     * @param inputOption how to interpret the values, RAW or USER_ENTERED.
+     * @return the empty batch.
+     */
+    public SheetsBatch newBatch(String inputOption) {
+        return new SheetsBatch(this, inputOption);
     }
 
     /**
@@ -388,7 +610,7 @@ public class GoogleSheetsAPI {
         BatchUpdateSpreadsheetRequest batchReq = new BatchUpdateSpreadsheetRequest();
         batchReq.setRequests(Collections.singletonList(req));
 
-        getSheetsService().spreadsheets()
-                .batchUpdate(getSpreadsheetID(), batchReq).execute();
+        send(sheetsService.spreadsheets()
+                .batchUpdate(getSpreadsheetID(), batchReq), false);
     }
 }
@@ -0,0 +1,235 @@
+package bot.Tools;
+
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * @author  Wil Aquino
+ * Date:    October 17, 2026
+ * Project: Libra
+ * Module:  Journal.java
+ * Purpose: An append-only file of checksummed records, where
+ *          records appended at the same time share one sync.
+ */
+public class Journal {
+
+    /** Bytes before each record: its length, then its checksum. */
+    private static final int HEADER_BYTES = 8;
+
+    /** The path of the journal file. */
+    private final Path path;
+
+    /** The open journal file. */
+    private FileChannel channel;
+
+    /** The records waiting to be written. */
+    private final List<Entry> pending;
+
+    /** Lock held by the thread writing records to the file. */
+    private final Object commitLock;
+
+    /** A record waiting to be written, and the result of writing it. */
+    private static class Entry {
+
+        /** The encoded record. */
+        private final ByteBuffer bytes;
+
+        /** Whether the record has been written or has failed. */
+        private boolean done;
+
+        /** The reason the record could not be written, if any. */
+        private IOException error;
+
+        /**
+         * Constructs a waiting record.
+         * @param bytes the encoded record.
+         */
+        private Entry(ByteBuffer bytes) {
+            this.bytes = bytes;
+        }
+    }
+
+    /**
+     * Opens a journal, dropping any record left half-written
+     * by a crash.
+     * @param path the path of the journal file.
+     */
+    public Journal(Path path) throws IOException {
+        this.path = path;
+        pending = new ArrayList<>();
+        commitLock = new Object();
+        open();
+    }
+
+    /** Opens the journal file, cutting it after its last whole record. */
+    private void open() throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        long valid = scan(null);
+        if (valid < channel.size()) {
+            LoggerFactory.getLogger(this.getClass()).warn(
+                    "Dropping a damaged tail of " + path.getFileName() + ".");
+            channel.truncate(valid);
+            channel.force(true);
+        }
+        channel.position(valid);
+    }
+
+    /**
+     * Encodes a record with its length and checksum.
+     * @param record the record to encode.
+     */
+    private static ByteBuffer encode(String record) {
+        byte[] payload = record.getBytes(StandardCharsets.UTF_8);
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        ByteBuffer bytes = ByteBuffer.allocate(HEADER_BYTES + payload.length);
+        bytes.putInt(payload.length).putInt((int) crc.getValue()).put(payload);
+        bytes.flip();
+        return bytes;
+    }
+
+    /**
+     * Reads the whole records at the start of the file.
+     * @param records the list to add the records to, or null to only measure.
+     * @return the length of the file holding whole records, in bytes.
+     */
+    private long scan(List<String> records) throws IOException {
+        long size = channel.size();
+        long position = 0;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+
+        while (position + HEADER_BYTES <= size) {
+            header.clear();
+            readFully(header, position);
+            header.flip();
+            int length = header.getInt();
+            int checksum = header.getInt();
+            if (length < 0 || position + HEADER_BYTES + length > size) {
+                break;
+            }
+
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            readFully(payload, position + HEADER_BYTES);
+            CRC32 crc = new CRC32();
+            crc.update(payload.array());
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+
+            if (records != null) {
+                records.add(new String(payload.array(), StandardCharsets.UTF_8));
+            }
+            position += HEADER_BYTES + length;
+        }
+
+        return position;
+    }
+
+    /**
+     * Fills a buffer from the file.
+     * @param buffer the buffer to fill.
+     * @param position the offset in the file to read from.
+     */
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of " + path.getFileName());
+            }
+            position += read;
+        }
+    }
+
+    /**
+     * Appends a record, returning once it is synced to disk.
+     * @param record the record to append.
+     */
+    public void append(String record) throws IOException {
+        Entry entry = new Entry(encode(record));
+        synchronized (pending) {
+            pending.add(entry);
+        }
+
+        synchronized (commitLock) {
+            if (!entry.done) {
+                commit();
+            }
+        }
+
+        if (entry.error != null) {
+            throw entry.error;
+        }
+    }
+
+    /** Writes and syncs every waiting record at once. */
+    private void commit() {
+        List<Entry> batch;
+        synchronized (pending) {
+            batch = new ArrayList<>(pending);
+            pending.clear();
+        }
+
+        ByteBuffer[] buffers = new ByteBuffer[batch.size()];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = batch.get(i).bytes;
+        }
+
+        IOException error = null;
+        try {
+            long start = channel.position();
+            try {
+                while (buffers[buffers.length - 1].hasRemaining()) {
+                    channel.write(buffers);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                channel.truncate(start);
+                channel.position(start);
+                throw e;
+            }
+        } catch (IOException e) {
+            error = e;
+        }
+
+        for (Entry entry : batch) {
+            entry.done = true;
+            entry.error = error;
+        }
+    }
+
+    /** Retrieves every record, oldest first. */
+    public List<String> readAll() throws IOException {
+        synchronized (commitLock) {
+            List<String> records = new ArrayList<>();
+            scan(records);
+            return records;
+        }
+    }
+
+    /**
+     * Moves the journal's records to an archive file, starting
+     * an empty journal in its place.
+     * @param archive the path to archive the records to.
+     */
+    public void rotate(Path archive) throws IOException {
+        synchronized (commitLock) {
+            channel.close();
+            Files.move(path, archive, StandardCopyOption.REPLACE_EXISTING);
+            open();
+        }
+    }
+}
@@ -0,0 +1,377 @@
+package bot.Tools;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * @author  Wil Aquino
+ * Date:    October 17, 2026
+ * Project: Libra
+ * Module:  LocalStore.java
+ * Purpose: A table of rows kept on disk, as a snapshot plus a
+ *          journal of the changes made since it was taken.
+ */
+public class LocalStore {
+
+    /** Amount of changes journaled before a new snapshot is taken. */
+    private static final int COMPACT_THRESHOLD = 1000;
+
+    /** Operation storing a row. */
+    private static final String PUT = "P";
+
+    /** Operation removing a row. */
+    private static final String DELETE = "D";
+
+    /** Operation replacing every row with ones from the spreadsheet. */
+    private static final String IMPORT = "I";
+
+    /** Operation marking rows as having reached the spreadsheet. */
+    private static final String MIRRORED = "M";
+
+    /** The name of the store's files, without their extensions. */
+    private final String name;
+
+    /** The path of the snapshot file. */
+    private final Path snapshotPath;
+
+    /** The journal of changes since the snapshot. */
+    private final Journal journal;
+
+    /** The stored rows, indexed by key. */
+    private final Map<String, List<String>> rows;
+
+    /** The keys changed since they were last taken for mirroring. */
+    private final Set<String> dirty;
+
+    /** The keys whose latest change has not reached the spreadsheet. */
+    private final Set<String> unmirrored;
+
+    /** Whether the rows were ever imported from the spreadsheet. */
+    private boolean imported;
+
+    /** Amount of changes journaled since the snapshot. */
+    private int sinceSnapshot;
+
+    /**
+     * Opens a store, replaying its journal on top of its snapshot.
+     * @param name the name of the store's files, without their extensions.
+     */
+    public LocalStore(String name) throws IOException {
+        this.name = name;
+        snapshotPath = Paths.get(name + ".snapshot");
+        rows = new LinkedHashMap<>();
+        dirty = new LinkedHashSet<>();
+        unmirrored = new LinkedHashSet<>();
+
+        if (Files.exists(snapshotPath)) {
+            for (String line : Files.readAllLines(
+                    snapshotPath, StandardCharsets.UTF_8)) {
+                apply(line);
+            }
+        }
+
+        journal = new Journal(Paths.get(name + ".journal"));
+        for (String record : journal.readAll()) {
+            for (String line : record.split("\n")) {
+                apply(line);
+            }
+            sinceSnapshot++;
+        }
+
+        // only changes which never reached the spreadsheet are sent
+        // again, so edits made there since are kept
+        dirty.addAll(unmirrored);
+    }
+
+    /**
+     * Escapes the separators of the store's format from a field.
+     * @param field the field to escape.
+     */
+    private static String escape(String field) {
+        if (field == null) {
+            return "";
+        }
+
+        return field.replace("\\", "\\\\").replace("\t", "\\t")
+                .replace("\n", "\\n").replace("\r", "\\r");
+    }
+
+    /**
+     * Reverts the escaping of a field.
+     * @param field the field to unescape.
+     */
+    private static String unescape(String field) {
+        StringBuilder plain = new StringBuilder(field.length());
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == '\\' && i + 1 < field.length()) {
+                char next = field.charAt(++i);
+                switch (next) {
+                    case 't':
+                        plain.append('\t');
+                        break;
+                    case 'n':
+                        plain.append('\n');
+                        break;
+                    case 'r':
+                        plain.append('\r');
+                        break;
+                    default:
+                        plain.append(next);
+                        break;
+                }
+            } else {
+                plain.append(c);
+            }
+        }
+
+        return plain.toString();
+    }
+
+    /**
+     * Encodes the operation storing a row.
+     * @param key the key of the row.
+     * @param row the row's values.
+     */
+    private static String encodePut(String key, List<String> row) {
+        StringBuilder line = new StringBuilder(PUT).append('\t')
+                .append(escape(key));
+        for (String field : row) {
+            line.append('\t').append(escape(field));
+        }
+
+        return line.toString();
+    }
+
+    /**
+     * Applies a single operation to the rows.
+     * @param line the encoded operation.
+     */
+    private void apply(String line) {
+        String[] fields = line.split("\t", -1);
+        switch (fields[0]) {
+            case PUT:
+                List<String> row = new ArrayList<>(fields.length - 2);
+                for (int i = 2; i < fields.length; i++) {
+                    row.add(unescape(fields[i]));
+                }
+                rows.put(unescape(fields[1]), row);
+                unmirrored.add(unescape(fields[1]));
+                break;
+            case DELETE:
+                rows.remove(unescape(fields[1]));
+                unmirrored.add(unescape(fields[1]));
+                break;
+            case IMPORT:
+                rows.clear();
+                unmirrored.clear();
+                imported = true;
+                break;
+            case MIRRORED:
+                for (int i = 1; i < fields.length; i++) {
+                    unmirrored.remove(unescape(fields[i]));
+                }
+                break;
+        }
+    }
+
+    /**
+     * Journals a group of operations, then applies them.
+     * @param lines the encoded operations.
+     */
+    private void commit(List<String> lines) throws IOException {
+        journal.append(String.join("\n", lines));
+        for (String line : lines) {
+            apply(line);
+        }
+
+        if (++sinceSnapshot >= COMPACT_THRESHOLD) {
+            compact();
+        }
+    }
+
+    /**
+     * Writes every row into a new snapshot, emptying the journal.
+     * A crash midway only replays changes the snapshot already holds.
+     */
+    private void compact() throws IOException {
+        Path temp = Paths.get(name + ".snapshot.tmp");
+        try (BufferedWriter out = Files.newBufferedWriter(
+                temp, StandardCharsets.UTF_8)) {
+            if (imported) {
+                out.write(IMPORT);
+                out.newLine();
+            }
+            StringBuilder mirrored = new StringBuilder(MIRRORED);
+            for (Map.Entry<String, List<String>> row : rows.entrySet()) {
+                out.write(encodePut(row.getKey(), row.getValue()));
+                out.newLine();
+                if (!unmirrored.contains(row.getKey())) {
+                    mirrored.append('\t').append(escape(row.getKey()));
+                }
+            }
+            for (String key : unmirrored) {
+                if (!rows.containsKey(key)) {
+                    out.write(DELETE + "\t" + escape(key));
+                    out.newLine();
+                }
+            }
+            out.write(mirrored.toString());
+            out.newLine();
+        }
+        try (FileChannel written = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            written.force(true);
+        }
+        Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+
+        Path old = Paths.get(name + ".journal.old");
+        journal.rotate(old);
+        Files.deleteIfExists(old);
+        sinceSnapshot = 0;
+    }
+
+    /** Checks whether the rows were ever imported from the spreadsheet. */
+    public synchronized boolean isImported() {
+        return imported;
+    }
+
+    /**
+     * Retrieves a row.
+     * @param key the key of the row.
+     * @return said row.
+     *         null if it does not exist.
+     */
+    public synchronized List<String> get(String key) {
+        List<String> row = rows.get(key);
+        return row == null ? null : Collections.unmodifiableList(row);
+    }
+
+    /** Retrieves a copy of every row, in the order first stored. */
+    public synchronized Map<String, List<String>> getAll() {
+        return new LinkedHashMap<>(rows);
+    }
+
+    /**
+     * Stores and removes rows as one change, marking them for mirroring.
+     * @param puts the rows to store, indexed by key.
+     * @param deletes the keys of the rows to remove.
+     */
+    public synchronized void write(Map<String, List<String>> puts,
+                                   Collection<String> deletes)
+            throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (String key : deletes) {
+            lines.add(DELETE + "\t" + escape(key));
+        }
+        for (Map.Entry<String, List<String>> row : puts.entrySet()) {
+            lines.add(encodePut(row.getKey(), row.getValue()));
+        }
+        if (lines.isEmpty()) {
+            return;
+        }
+
+        commit(lines);
+        dirty.addAll(deletes);
+        dirty.addAll(puts.keySet());
+    }
+
+    /**
+     * Stores a row, marking it for mirroring.
+     * @param key the key of the row.
+     * @param row the row's values.
+     */
+    public void put(String key, List<String> row) throws IOException {
+        write(Collections.singletonMap(key, row), Collections.emptyList());
+    }
+
+    /**
+     * Changes a single field of a row, keeping its other fields
+     * as they are at that moment.
+     * @param key the key of the row.
+     * @param index the index of the field.
+     * @param value the field's new value.
+     */
+    public synchronized void setField(String key, int index, String value)
+            throws IOException {
+        List<String> row = rows.get(key);
+        if (row == null || value.equals(row.get(index))) {
+            return;
+        }
+
+        List<String> changed = new ArrayList<>(row);
+        changed.set(index, value);
+        put(key, changed);
+    }
+
+    /**
+     * Replaces every row with ones already in the spreadsheet,
+     * so none of them need mirroring.
+     * @param imports the rows to store, indexed by key.
+     */
+    public synchronized void importAll(Map<String, List<String>> imports)
+            throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add(IMPORT);
+        for (Map.Entry<String, List<String>> row : imports.entrySet()) {
+            lines.add(encodePut(row.getKey(), row.getValue()));
+        }
+
+        commit(lines);
+        dirty.clear();
+    }
+
+    /**
+     * Takes the keys changed since they were last taken.
+     * @return said keys.
+     */
+    public synchronized Set<String> drainDirty() {
+        Set<String> drained = new LinkedHashSet<>(dirty);
+        dirty.clear();
+        return drained;
+    }
+
+    /**
+     * Marks keys as having reached the spreadsheet, so they are not
+     * mirrored again after a restart.
+     * @param keys the keys whose mirroring succeeded.
+     */
+    public synchronized void markMirrored(Collection<String> keys)
+            throws IOException {
+        StringBuilder line = new StringBuilder(MIRRORED);
+        boolean marked = false;
+        for (String key : keys) {
+            // a key changed again during its mirroring is still behind
+            if (unmirrored.contains(key) && !dirty.contains(key)) {
+                line.append('\t').append(escape(key));
+                marked = true;
+            }
+        }
+        if (marked) {
+            commit(Collections.singletonList(line.toString()));
+        }
+    }
+
+    /**
+     * Marks keys as still needing to be mirrored.
+     * @param keys the keys whose mirroring failed.
+     */
+    public synchronized void markDirty(Collection<String> keys) {
+        dirty.addAll(keys);
+    }
+}
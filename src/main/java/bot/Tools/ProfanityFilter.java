@@ -0,0 +1,149 @@
+package bot.Tools;
+
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * @author  Wil Aquino
+ * Date:    October 17, 2026
+ * Project: Libra
+ * Module:  ProfanityFilter.java
+ * Purpose: Matches phrases against the list of inappropriate
+ *          phrases, compiled once and reloaded on change.
+ */
+public class ProfanityFilter {
+
+    /** The flags every inappropriate phrase is compiled with. */
+    private static final int FLAGS = Pattern.CASE_INSENSITIVE
+            | Pattern.MULTILINE | Pattern.UNICODE_CHARACTER_CLASS;
+
+    /** Minimum time between checks of the file for changes, in milliseconds. */
+    private static final long RELOAD_CHECK_INTERVAL = 5000;
+
+    /** The filter of the bot's list of inappropriate phrases. */
+    private static final ProfanityFilter FILTER =
+            new ProfanityFilter("badwords.txt");
+
+    /** The name of the file holding one regex per line. */
+    private final String fileName;
+
+    /** The compiled list, paired with the version of the file it came from. */
+    private volatile Snapshot snapshot;
+
+    /** The last time the file was checked for changes. */
+    private volatile long lastCheck;
+
+    /** A compiled list of phrases and the file version it was built from. */
+    private static class Snapshot {
+
+        /** Every phrase of the list, as one alternation. */
+        private final Pattern pattern;
+
+        /** The last modified time of the file when it was read. */
+        private final long modified;
+
+        /**
+         * Constructs a compiled list.
+         * @param pattern the combined phrases, or null if there are none.
+         * @param modified the last modified time of the file.
+         */
+        private Snapshot(Pattern pattern, long modified) {
+            this.pattern = pattern;
+            this.modified = modified;
+        }
+    }
+
+    /**
+     * Constructs a filter over a file of regexes.
+     * @param fileName the name of said file.
+     */
+    public ProfanityFilter(String fileName) {
+        this.fileName = fileName;
+        snapshot = new Snapshot(null, Long.MIN_VALUE);
+        lastCheck = 0;
+    }
+
+    /** Retrieves the filter of the bot's list of inappropriate phrases. */
+    public static ProfanityFilter getInstance() {
+        return FILTER;
+    }
+
+    /**
+     * Combines a list of regexes into a single pattern.
+     * @param regexes the regexes to combine.
+     * @return said pattern.
+     *         null if there are no regexes.
+     */
+    public static Pattern combine(List<String> regexes) {
+        StringJoiner alternation = new StringJoiner("|");
+        for (String regex : regexes) {
+            if (!regex.trim().isEmpty()) {
+                alternation.add("(?:" + regex + ")");
+            }
+        }
+
+        if (alternation.length() == 0) {
+            return null;
+        }
+        return Pattern.compile(alternation.toString(), FLAGS);
+    }
+
+    /**
+     * Recompiles the list if the file changed since it was last read.
+     * @return the up-to-date compiled list.
+     */
+    private Snapshot current() {
+        Snapshot loaded = snapshot;
+        long now = System.currentTimeMillis();
+        if (now - lastCheck < RELOAD_CHECK_INTERVAL) {
+            return loaded;
+        }
+        lastCheck = now;
+
+        long modified = new File(fileName).lastModified();
+        if (modified == loaded.modified) {
+            return loaded;
+        }
+
+        synchronized (this) {
+            if (snapshot.modified == modified) {
+                return snapshot;
+            }
+
+            try {
+                List<String> regexes = new FileHandler(fileName).readContents();
+                if (regexes != null) {
+                    snapshot = new Snapshot(combine(regexes), modified);
+                }
+            } catch (PatternSyntaxException e) {
+                LoggerFactory.getLogger(this.getClass()).error(
+                        "Invalid phrase in " + fileName + ", keeping the last list.",
+                        e);
+                snapshot = new Snapshot(snapshot.pattern, modified);
+            }
+
+            return snapshot;
+        }
+    }
+
+    /**
+     * Checks whether a phrase is inappropriate or not.
+     * @param phrase the phrase to check.
+     * @return True if it is inappropriate.
+     *         False otherwise.
+     */
+    public boolean matches(String phrase) {
+        if (phrase == null) {
+            return false;
+        }
+
+        Pattern pattern = current().pattern;
+        return pattern != null
+                && pattern.matcher(phrase.toLowerCase()).find();
+    }
+}
@@ -0,0 +1,232 @@
+package bot.Tools;
+
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Role;
+import net.dv8tion.jda.api.entities.TextChannel;
+import net.dv8tion.jda.api.events.channel.text.TextChannelDeleteEvent;
+import net.dv8tion.jda.api.events.channel.text.update.TextChannelUpdateNameEvent;
+import net.dv8tion.jda.api.events.role.RoleDeleteEvent;
+import net.dv8tion.jda.api.events.role.update.RoleUpdateNameEvent;
+import net.dv8tion.jda.api.exceptions.ErrorResponseException;
+import net.dv8tion.jda.api.hooks.ListenerAdapter;
+
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @author  Wil Aquino
+ * Date:    October 17, 2026
+ * Project: Libra
+ * Module:  Resolver.java
+ * Purpose: Finds members, roles, and channels of a server,
+ *          remembering lookups by name until they change.
+ */
+public class Resolver extends ListenerAdapter {
+
+    /** The resolver shared by every command. */
+    private static final Resolver RESOLVER = new Resolver();
+
+    /** The IDs of looked up roles, indexed by server ID, then lowercase name. */
+    private final Map<String, Map<String, String>> roleIDs;
+
+    /** The IDs of looked up channels, indexed by server ID, then lowercase name. */
+    private final Map<String, Map<String, String>> channelIDs;
+
+    /** Constructs an empty resolver. */
+    private Resolver() {
+        roleIDs = new ConcurrentHashMap<>();
+        channelIDs = new ConcurrentHashMap<>();
+    }
+
+    /** Retrieves the resolver shared by every command. */
+    public static Resolver getInstance() {
+        return RESOLVER;
+    }
+
+    /**
+     * Retrieves the lookups of a server.
+     * @param lookups the role or channel lookups of every server.
+     * @param server the server to retrieve for.
+     */
+    private static Map<String, String> namesOf(
+            Map<String, Map<String, String>> lookups, Guild server) {
+        return lookups.computeIfAbsent(server.getId(),
+                id -> new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Retrieves a member of a server, only asking Discord if they
+     * are not cached.
+     * @param server the server to search.
+     * @param id the Discord ID of the member.
+     * @return the member.
+     *         null if they could not be found.
+     */
+    public Member findMember(Guild server, String id) {
+        Member cached = server.getMemberById(id);
+        if (cached != null) {
+            return cached;
+        }
+
+        try {
+            return server.retrieveMemberById(id).complete();
+        } catch (ErrorResponseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Retrieves several members of a server, asking Discord once
+     * for every member which is not cached.
+     * @param server the server to search.
+     * @param ids the Discord IDs of the members.
+     * @return the found members, indexed by Discord ID.
+     */
+    public Map<String, Member> findMembers(Guild server,
+                                           Collection<String> ids) {
+        Map<String, Member> members = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String id : ids) {
+            Member cached = server.getMemberById(id);
+            if (cached != null) {
+                members.put(id, cached);
+            } else {
+                missing.add(id);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            try {
+                for (Member member : server.retrieveMembersByIds(missing).get()) {
+                    members.put(member.getId(), member);
+                }
+            } catch (RuntimeException e) {
+                LoggerFactory.getLogger(this.getClass())
+                        .error("Members could not be retrieved.", e);
+            }
+        }
+
+        return members;
+    }
+
+    /**
+     * Retrieves a role of a server given its name, ignoring case.
+     * @param server the server to search.
+     * @param name the name of the role.
+     * @return the role.
+     *         null if it could not be found.
+     */
+    public Role findRole(Guild server, String name) {
+        Map<String, String> names = namesOf(roleIDs, server);
+        String key = name.toLowerCase();
+
+        String id = names.get(key);
+        if (id != null) {
+            Role role = server.getRoleById(id);
+            if (role != null && role.getName().equalsIgnoreCase(name)) {
+                return role;
+            }
+            names.remove(key, id);
+        }
+
+        List<Role> found = server.getRolesByName(name, true);
+        if (found.isEmpty()) {
+            return null;
+        }
+
+        Role role = found.get(0);
+        names.put(key, role.getId());
+        return role;
+    }
+
+    /**
+     * Retrieves a text channel of a server given its name, ignoring case.
+     * @param server the server to search.
+     * @param name the name of the channel.
+     * @return the channel.
+     *         null if it could not be found.
+     */
+    public TextChannel findChannel(Guild server, String name) {
+        Map<String, String> names = namesOf(channelIDs, server);
+        String key = name.toLowerCase();
+
+        String id = names.get(key);
+        if (id != null) {
+            TextChannel channel = server.getTextChannelById(id);
+            if (channel != null && channel.getName().equalsIgnoreCase(name)) {
+                return channel;
+            }
+            names.remove(key, id);
+        }
+
+        List<TextChannel> found = server.getTextChannelsByName(name, true);
+        if (found.isEmpty()) {
+            return null;
+        }
+
+        TextChannel channel = found.get(0);
+        names.put(key, channel.getId());
+        return channel;
+    }
+
+    /**
+     * Forgets a name lookup of a server.
+     * @param lookups the role or channel lookups of every server.
+     * @param server the server of the lookup.
+     * @param name the name which was looked up.
+     */
+    private static void forget(Map<String, Map<String, String>> lookups,
+                               Guild server, String name) {
+        Map<String, String> names = lookups.get(server.getId());
+        if (names != null) {
+            names.remove(name.toLowerCase());
+        }
+    }
+
+    /**
+     * Forgets a deleted role.
+     * @param event the deletion of the role.
+     */
+    @Override
+    public void onRoleDelete(@NotNull RoleDeleteEvent event) {
+        forget(roleIDs, event.getGuild(), event.getRole().getName());
+    }
+
+    /**
+     * Forgets a renamed role, under both its names.
+     * @param event the renaming of the role.
+     */
+    @Override
+    public void onRoleUpdateName(@NotNull RoleUpdateNameEvent event) {
+        forget(roleIDs, event.getGuild(), event.getOldName());
+        forget(roleIDs, event.getGuild(), event.getNewName());
+    }
+
+    /**
+     * Forgets a deleted channel.
+     * @param event the deletion of the channel.
+     */
+    @Override
+    public void onTextChannelDelete(@NotNull TextChannelDeleteEvent event) {
+        forget(channelIDs, event.getGuild(), event.getChannel().getName());
+    }
+
+    /**
+     * Forgets a renamed channel, under both its names.
+     * @param event the renaming of the channel.
+     */
+    @Override
+    public void onTextChannelUpdateName(
+            @NotNull TextChannelUpdateNameEvent event) {
+        forget(channelIDs, event.getGuild(), event.getOldName());
+        forget(channelIDs, event.getGuild(), event.getNewName());
+    }
+}
@@ -0,0 +1,146 @@
+package bot.Tools;
+
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Role;
+
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+
+/**
+ * @author  Wil Aquino
+ * Date:    October 17, 2026
+ * Project: Libra
+ * Module:  RolePlan.java
+ * Purpose: Collects the role changes of many members, sending
+ *          only the ones which change something, one at a time.
+ */
+public class RolePlan {
+
+    /** Amount of members updated between progress reports. */
+    private static final int PROGRESS_INTERVAL = 5;
+
+    /** The planned changes, indexed by Discord ID in the order planned. */
+    private final Map<String, Change> changes;
+
+    /** The roles to add to and remove from a single member. */
+    private static class Change {
+
+        /** The member to change. */
+        private final Member member;
+
+        /** The roles to add. */
+        private final Set<Role> toAdd;
+
+        /** The roles to remove. */
+        private final Set<Role> toRemove;
+
+        /**
+         * Constructs an empty change.
+         * @param member the member to change.
+         */
+        private Change(Member member) {
+            this.member = member;
+            toAdd = new LinkedHashSet<>();
+            toRemove = new LinkedHashSet<>();
+        }
+
+        /** Drops the roles the member already has, or already lacks. */
+        private void dropNoOps() {
+            List<Role> current = member.getRoles();
+            toAdd.removeIf(current::contains);
+            toRemove.removeIf(role -> !current.contains(role));
+        }
+
+        /** Checks whether this change would do nothing. */
+        private boolean isEmpty() {
+            return toAdd.isEmpty() && toRemove.isEmpty();
+        }
+    }
+
+    /** Constructs an empty plan. */
+    public RolePlan() {
+        changes = new LinkedHashMap<>();
+    }
+
+    /**
+     * Plans roles to add to and remove from a member, where a later
+     * plan for the same role overrides an earlier one.
+     * @param member the member to change.
+     * @param toAdd the roles to add, ignoring any nulls.
+     * @param toRemove the roles to remove, ignoring any nulls.
+     */
+    public void change(Member member, Collection<Role> toAdd,
+                       Collection<Role> toRemove) {
+        Change change = changes.computeIfAbsent(
+                member.getId(), id -> new Change(member));
+
+        for (Role role : toAdd) {
+            if (role != null) {
+                change.toRemove.remove(role);
+                change.toAdd.add(role);
+            }
+        }
+        for (Role role : toRemove) {
+            if (role != null && !toAdd.contains(role)) {
+                change.toAdd.remove(role);
+                change.toRemove.add(role);
+            }
+        }
+    }
+
+    /**
+     * Sends every planned change which does something, one member
+     * at a time so Discord's rate limits are never burst.
+     * @param server the server of the members.
+     * @param onProgress a receiver of the amount of members updated so far
+     *                   and the total amount to update.
+     * @return the amount of members whose update failed, once all are sent.
+     */
+    public CompletableFuture<Integer> apply(Guild server,
+                                            BiConsumer<Integer, Integer> onProgress) {
+        List<Change> pending = new ArrayList<>();
+        for (Change change : changes.values()) {
+            change.dropNoOps();
+            if (!change.isEmpty()) {
+                pending.add(change);
+            }
+        }
+        changes.clear();
+
+        int total = pending.size();
+        CompletableFuture<Integer> chain = CompletableFuture.completedFuture(0);
+        for (int i = 0; i < total; i++) {
+            Change change = pending.get(i);
+            int updated = i + 1;
+
+            chain = chain.thenCompose(failures -> server
+                    .modifyMemberRoles(change.member,
+                            change.toAdd, change.toRemove)
+                    .submit()
+                    .handle((ignored, e) -> {
+                        if (e != null) {
+                            LoggerFactory.getLogger(RolePlan.class).error(
+                                    "Roles of " + change.member.getId()
+                                            + " could not be changed.", e);
+                        }
+                        if (updated % PROGRESS_INTERVAL == 0 || updated == total) {
+                            onProgress.accept(updated, total);
+                        }
+
+                        return e == null ? failures : failures + 1;
+                    }));
+        }
+
+        return chain;
+    }
+}
@@ -0,0 +1,105 @@
+package bot.Tools;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author  Wil Aquino
+ * Date:    October 17, 2026
+ * Project: Libra
+ * Module:  RowIndex.java
+ * Purpose: Reads which Discord ID each row of a tab holds, so
+ *          rows are only written where their ID still is.
+ */
+public class RowIndex {
+
+    /** The ID in column A of each row, starting at the first row. */
+    private final List<String> ids;
+
+    /**
+     * Constructs an index of a tab's rows.
+     * @param ids the ID in column A of each row.
+     */
+    private RowIndex(List<String> ids) {
+        this.ids = ids;
+    }
+
+    /**
+     * Reads the IDs of a tab's rows.
+     * @param link a link to the spreadsheet.
+     * @param tab the tab to read.
+     * @return the index of the tab's rows.
+     */
+    public static RowIndex read(GoogleSheetsAPI link, String tab)
+            throws IOException {
+        List<String> ids = new ArrayList<>();
+        List<List<Object>> column = link.getSheetValues(tab, "A", "A");
+        if (column != null) {
+            for (List<Object> cell : column) {
+                ids.add(cell.isEmpty() ? "" : cell.get(0).toString());
+            }
+        }
+
+        return new RowIndex(ids);
+    }
+
+    /**
+     * Retrieves the ID a row holds.
+     * @param row the numbered row.
+     * @return said ID.
+     *         an empty string if the row is blank.
+     */
+    public String idAt(int row) {
+        return row > 0 && row <= ids.size() ? ids.get(row - 1) : "";
+    }
+
+    /**
+     * Retrieves the row holding an ID.
+     * @param id the ID to find.
+     * @return said row.
+     *         -1 if no row holds it.
+     */
+    public int rowOf(String id) {
+        int index = ids.indexOf(id);
+        return index == -1 ? -1 : index + 1;
+    }
+
+    /**
+     * Finds the row an ID should be written to, moving it to the
+     * first row after every other one if its row holds another ID.
+     * @param id the ID to write.
+     * @param row the row the ID was stored at.
+     * @return said row.
+     */
+    public int locate(String id, int row) {
+        String found = idAt(row);
+        if (found.equals(id)) {
+            return row;
+        }
+
+        int moved = rowOf(id);
+        if (moved != -1) {
+            return moved;
+        } else if (!found.isEmpty()) {
+            row = ids.size() + 1;
+        }
+
+        // claim the row, so later new IDs are not written over it
+        while (ids.size() < row) {
+            ids.add("");
+        }
+        ids.set(row - 1, id);
+        return row;
+    }
+
+    /**
+     * Accounts for a deleted row, moving every row below it up.
+     * @param row the numbered row which was deleted.
+     */
+    public void delete(int row) {
+        if (row > 0 && row <= ids.size()) {
+            ids.remove(row - 1);
+        }
+    }
+}
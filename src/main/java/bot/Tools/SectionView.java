@@ -0,0 +1,102 @@
+package bot.Tools;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.BiFunction;
+
+/**
+ * @author  Wil Aquino
+ * Date:    October 17, 2026
+ * Project: Libra
+ * Module:  SectionView.java
+ * Purpose: A read-only view of a spreadsheet tab, indexed by its
+ *          first column, which decodes each row on first access.
+ */
+public class SectionView {
+
+    /** The tab's raw rows, including its header. */
+    private final List<List<Object>> values;
+
+    /** The index of each row, by the ID in its first column. */
+    private final Map<String, Integer> index;
+
+    /** The rows decoded so far, by index. */
+    private final Object[] decoded;
+
+    /** The decoder of a row, given its spreadsheet row and values. */
+    private final BiFunction<Integer, List<Object>, Object> decoder;
+
+    /**
+     * Indexes a tab's rows, without decoding any of them.
+     * @param values the tab's raw rows, including its header.
+     * @param decoder the decoder of a row, given its spreadsheet row
+     *                and its values after the ID, or null if rows are
+     *                only looked up by ID.
+     */
+    public SectionView(List<List<Object>> values,
+                       BiFunction<Integer, List<Object>, Object> decoder) {
+        this.values = values;
+        this.decoder = decoder;
+
+        index = new HashMap<>(values.size() * 2);
+        for (int i = 1; i < values.size(); i++) {
+            List<Object> row = values.get(i);
+            if (!row.isEmpty()) {
+                index.put(row.get(0).toString(), i);
+            }
+        }
+        decoded = new Object[values.size()];
+    }
+
+    /**
+     * Checks whether a row exists.
+     * @param id the ID in the row's first column.
+     */
+    public boolean containsKey(Object id) {
+        return index.containsKey(id.toString());
+    }
+
+    /** Retrieves the IDs of every row. */
+    public Set<String> keySet() {
+        return Collections.unmodifiableSet(index.keySet());
+    }
+
+    /** Retrieves the amount of rows. */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Retrieves a row, decoding it if not done already.
+     * @param id the ID in the row's first column.
+     * @return the decoded row.
+     *         null if it does not exist or rows are not decoded.
+     */
+    public synchronized Object get(Object id) {
+        Integer i = index.get(id.toString());
+        if (i == null || decoder == null) {
+            return null;
+        }
+
+        if (decoded[i] == null) {
+            List<Object> row = values.get(i);
+            decoded[i] = decoder.apply(i + 1, row.subList(1, row.size()));
+        }
+
+        return decoded[i];
+    }
+
+    /** Decodes every row into a map, indexed by ID. */
+    public TreeMap<Object, Object> toMap() {
+        TreeMap<Object, Object> data = new TreeMap<>();
+        for (String id : index.keySet()) {
+            data.put(id, get(id));
+        }
+
+        return data;
+    }
+}
@@ -0,0 +1,187 @@
+package bot.Tools;
+
+import com.google.api.services.sheets.v4.model.ValueRange;
+
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * @author  Wil Aquino
+ * Date:    October 17, 2026
+ * Project: Libra
+ * Module:  SheetsBatch.java
+ * Purpose: Collects row writes to a spreadsheet, so they can be
+ *          sent in as few requests as possible.
+ */
+public class SheetsBatch {
+
+    /** The spreadsheet to write to. */
+    private final GoogleSheetsAPI link;
+
+    /** How the spreadsheet interprets the written values. */
+    private final String inputOption;
+
+    /** The queued range updates. */
+    private final List<Entry> updates;
+
+    /** The queued row appends, grouped by tab. */
+    private final Map<String, List<Entry>> appends;
+
+    /**
+     * Constructs an empty batch.
+     * @param spreadsheet the spreadsheet to write to.
+     * @param option how to interpret the values, RAW or USER_ENTERED.
+     */
+    public SheetsBatch(GoogleSheetsAPI spreadsheet, String option) {
+        link = spreadsheet;
+        inputOption = option;
+        updates = new ArrayList<>();
+        appends = new LinkedHashMap<>();
+    }
+
+    /** Retrieves the spreadsheet this batch writes to. */
+    public GoogleSheetsAPI getLink() {
+        return link;
+    }
+
+    /**
+     * Queues an update of a range of values.
+     * @param key the key to report the write under, if it fails.
+     * @param range the range of values to update.
+     * @param values the values to update to.
+     * @param onWritten an action to run once the write succeeds, if any.
+     */
+    public void update(Object key, String range, ValueRange values,
+                       Runnable onWritten) {
+        updates.add(new Entry(key, values.setRange(range), onWritten));
+    }
+
+    /**
+     * Queues a row to append to the end of a tab.
+     * @param key the key to report the write under, if it fails.
+     * @param tab the name of the spreadsheet tab to add to.
+     * @param row the row of values to append.
+     * @param onWritten an action to run once the write succeeds, if any.
+     */
+    public void append(Object key, String tab, ValueRange row,
+                       Runnable onWritten) {
+        appends.computeIfAbsent(tab, t -> new ArrayList<>())
+                .add(new Entry(key, row, onWritten));
+    }
+
+    /**
+     * Retrieves the number of rows queued to be appended to a tab.
+     * @param tab the name of the spreadsheet tab.
+     */
+    public int numAppends(String tab) {
+        List<Entry> rows = appends.get(tab);
+        if (rows == null) {
+            return 0;
+        }
+
+        return rows.size();
+    }
+
+    /**
+     * Runs the follow-up actions of successfully written entries.
+     * @param entries the entries which were written.
+     */
+    private void confirm(List<Entry> entries) {
+        for (Entry entry : entries) {
+            if (entry.onWritten != null) {
+                entry.onWritten.run();
+            }
+        }
+    }
+
+    /**
+     * Marks entries as failed.
+     * @param entries the entries which could not be written.
+     * @param failed the store of failed keys.
+     * @param e the reason the write failed.
+     */
+    private void reject(List<Entry> entries, Set<Object> failed,
+                        IOException e) {
+        LoggerFactory.getLogger(this.getClass()).error(
+                entries.size() + " batched write(s) failed: " + e.getMessage());
+        for (Entry entry : entries) {
+            failed.add(entry.key);
+        }
+    }
+
+    /**
+     * Sends every queued write, as one batch update and one
+     * append per tab, then empties the batch.
+     * @return the keys of the writes which failed.
+     */
+    public Set<Object> flush() {
+        Set<Object> failed = new HashSet<>();
+
+        if (!updates.isEmpty()) {
+            List<ValueRange> data = new ArrayList<>(updates.size());
+            for (Entry entry : updates) {
+                data.add(entry.values);
+            }
+
+            try {
+                link.batchUpdate(data, inputOption);
+                confirm(updates);
+            } catch (IOException e) {
+                reject(updates, failed, e);
+            }
+        }
+
+        for (Map.Entry<String, List<Entry>> mapping : appends.entrySet()) {
+            List<Entry> entries = mapping.getValue();
+            List<List<Object>> rows = new ArrayList<>(entries.size());
+            for (Entry entry : entries) {
+                rows.addAll(entry.values.getValues());
+            }
+
+            try {
+                link.appendRow(mapping.getKey(),
+                        new ValueRange().setValues(rows), inputOption);
+                confirm(entries);
+            } catch (IOException e) {
+                reject(entries, failed, e);
+            }
+        }
+
+        updates.clear();
+        appends.clear();
+        return failed;
+    }
+
+    /** A single queued write. */
+    private static class Entry {
+
+        /** The key to report the write under. */
+        private final Object key;
+
+        /** The values to write. */
+        private final ValueRange values;
+
+        /** The action to run once the write succeeds. */
+        private final Runnable onWritten;
+
+        /**
+         * Constructs a queued write.
+         * @param writeKey the key to report the write under.
+         * @param writeValues the values to write.
+         * @param action the action to run once the write succeeds.
+         */
+        private Entry(Object writeKey, ValueRange writeValues,
+                      Runnable action) {
+            key = writeKey;
+            values = writeValues;
+            onWritten = action;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package bot.Tools;
+
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author  Wil Aquino
+ * Date:    October 17, 2026
+ * Project: Libra
+ * Module:  SheetsMirror.java
+ * Purpose: Copies changed rows of a local store to their
+ *          spreadsheet in the background.
+ */
+public class SheetsMirror {
+
+    /** The thread which runs every mirror. */
+    private static final ScheduledExecutorService MIRRORS =
+            Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread mirror = new Thread(task, "libra-sheets-mirror");
+                mirror.setDaemon(true);
+                return mirror;
+            });
+
+    /** How a store's rows are laid out within the spreadsheet. */
+    public interface Layout {
+
+        /**
+         * Queues the writes bringing the spreadsheet up to date,
+         * keying each write by the store key it is for.
+         * @param batch the batch of writes to the spreadsheet.
+         * @param keys the keys of the changed rows.
+         * @param store the store holding the rows.
+         * @return False if the spreadsheet could not be prepared
+         *         for the writes, so every key should be tried again.
+         *         True otherwise.
+         */
+        boolean queue(SheetsBatch batch, Set<String> keys, LocalStore store);
+    }
+
+    /** The store to mirror. */
+    private final LocalStore store;
+
+    /** The spreadsheet to mirror to. */
+    private final GoogleSheetsAPI link;
+
+    /** The layout of the rows within the spreadsheet. */
+    private final Layout layout;
+
+    /** How the spreadsheet interprets the mirrored values. */
+    private final String inputOption;
+
+    /** Whether mirroring is held off, such as while rows are moved. */
+    private boolean paused;
+
+    /**
+     * Starts mirroring a store.
+     * @param store the store to mirror.
+     * @param link the spreadsheet to mirror to.
+     * @param layout the layout of the rows within the spreadsheet.
+     * @param inputOption how to interpret the values, RAW or USER_ENTERED.
+     * @param period the time between mirrors, in seconds.
+     */
+    public SheetsMirror(LocalStore store, GoogleSheetsAPI link,
+                        Layout layout, String inputOption, long period) {
+        this.store = store;
+        this.link = link.inBackground();
+        this.layout = layout;
+        this.inputOption = inputOption;
+
+        MIRRORS.scheduleWithFixedDelay(this::flushQuietly,
+                period, period, TimeUnit.SECONDS);
+    }
+
+    /** Mirrors the changed rows, logging rather than throwing any failure. */
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            LoggerFactory.getLogger(this.getClass())
+                    .error("A spreadsheet mirror failed.", e);
+        }
+    }
+
+    /**
+     * Holds off mirroring until resumed, waiting for any
+     * mirror in progress to finish.
+     */
+    public synchronized void pause() {
+        paused = true;
+    }
+
+    /** Resumes mirroring after a pause. */
+    public synchronized void resume() {
+        paused = false;
+    }
+
+    /**
+     * Mirrors every changed row now.
+     * @return True if every row reached the spreadsheet.
+     *         False otherwise, or if mirroring is paused.
+     */
+    public synchronized boolean flush() {
+        if (paused) {
+            return false;
+        }
+
+        Set<String> keys = store.drainDirty();
+        if (keys.isEmpty()) {
+            return true;
+        }
+
+        SheetsBatch batch = link.newBatch(inputOption);
+        boolean prepared = false;
+        try {
+            prepared = layout.queue(batch, keys, store);
+        } finally {
+            if (!prepared) {
+                store.markDirty(keys);
+            }
+        }
+        if (!prepared) {
+            return false;
+        }
+
+        Set<String> failed = new LinkedHashSet<>();
+        for (Object key : batch.flush()) {
+            failed.add((String) key);
+        }
+        if (!failed.isEmpty()) {
+            store.markDirty(failed);
+            LoggerFactory.getLogger(this.getClass()).warn(
+                    failed.size() + " row(s) will be mirrored again later.");
+        }
+
+        keys.removeAll(failed);
+        try {
+            store.markMirrored(keys);
+        } catch (IOException e) {
+            // the rows are only mirrored again after a restart
+            LoggerFactory.getLogger(this.getClass()).warn(
+                    "Mirrored rows could not be marked as such.", e);
+        }
+
+        return failed.isEmpty();
+    }
+}
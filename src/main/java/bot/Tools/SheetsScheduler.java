@@ -0,0 +1,161 @@
+package bot.Tools;
+
+import com.google.api.client.googleapis.services.AbstractGoogleClientRequest;
+import com.google.api.client.http.HttpResponseException;
+
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * @author  Wil Aquino
+ * Date:    October 17, 2026
+ * Project: Libra
+ * Module:  SheetsScheduler.java
+ * Purpose: Sends every Google Sheets request within the
+ *          API's per-minute quota, retrying throttled ones.
+ */
+public class SheetsScheduler {
+
+    /** Requests allowed per minute, matching the Sheets API quota. */
+    private static final int REQUESTS_PER_MINUTE = 60;
+
+    /** Maximum attempts at a request before giving up on it. */
+    private static final int MAX_ATTEMPTS = 6;
+
+    /** Longest time to wait between attempts, in milliseconds. */
+    private static final long MAX_BACKOFF = 32000;
+
+    /** Time to wait after the first failed attempt, in milliseconds. */
+    private static final long INITIAL_BACKOFF = 1000;
+
+    /** The scheduler shared by every spreadsheet connection. */
+    private static final SheetsScheduler SCHEDULER = new SheetsScheduler();
+
+    /** The amount of requests which may currently be sent. */
+    private double tokens;
+
+    /** The time tokens were last added, in nanoseconds. */
+    private long lastRefill;
+
+    /** The amount of interactive requests waiting on a token. */
+    private int interactiveWaiting;
+
+    /** Constructs a scheduler with a full bucket of tokens. */
+    private SheetsScheduler() {
+        tokens = REQUESTS_PER_MINUTE;
+        lastRefill = System.nanoTime();
+    }
+
+    /** Retrieves the scheduler shared by every spreadsheet connection. */
+    public static SheetsScheduler getInstance() {
+        return SCHEDULER;
+    }
+
+    /** Adds the tokens earned since the last refill. */
+    private void refill() {
+        long now = System.nanoTime();
+        double earned = (now - lastRefill) / 60e9 * REQUESTS_PER_MINUTE;
+
+        tokens = Math.min(REQUESTS_PER_MINUTE, tokens + earned);
+        lastRefill = now;
+    }
+
+    /**
+     * Waits until a request may be sent, letting interactive
+     * requests go ahead of background ones.
+     * @param interactive whether a user is waiting on the request.
+     */
+    private synchronized void acquire(boolean interactive)
+            throws InterruptedException {
+        if (interactive) {
+            interactiveWaiting++;
+        }
+
+        try {
+            while (true) {
+                refill();
+                if (tokens >= 1 && (interactive || interactiveWaiting == 0)) {
+                    tokens--;
+                    return;
+                }
+
+                long untilNext = (long) Math.ceil(
+                        (1 - tokens) * 60000.0 / REQUESTS_PER_MINUTE);
+                wait(Math.max(1, untilNext));
+            }
+        } finally {
+            if (interactive) {
+                interactiveWaiting--;
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Checks whether a failed request is worth trying again.
+     * @param e the reason the request failed.
+     * @param idempotent whether sending the request twice has
+     *                   the same effect as sending it once.
+     * @return True if the request was rate limited, or if an
+     *         idempotent request hit a server error.
+     *         False otherwise.
+     */
+    public static boolean isRetryable(IOException e, boolean idempotent) {
+        if (!(e instanceof HttpResponseException)) {
+            return false;
+        }
+
+        // a server error may arrive after the change was applied
+        int status = ((HttpResponseException) e).getStatusCode();
+        return status == 429 || (idempotent && status >= 500);
+    }
+
+    /**
+     * Retrieves the time to wait before another attempt, using
+     * exponential backoff with full jitter.
+     * @param attempt the number of attempts made so far.
+     */
+    private static long backoff(int attempt) {
+        long ceiling = Math.min(MAX_BACKOFF, INITIAL_BACKOFF << (attempt - 1));
+        return ThreadLocalRandom.current().nextLong(0, ceiling + 1);
+    }
+
+    /**
+     * Sends a request once the quota allows it, retrying it
+     * while it is throttled.
+     * @param request the request to send.
+     * @param interactive whether a user is waiting on the request.
+     * @param idempotent whether sending the request twice has
+     *                   the same effect as sending it once.
+     * @return the response of the request.
+     */
+    public <T> T execute(AbstractGoogleClientRequest<T> request,
+                         boolean interactive, boolean idempotent)
+            throws IOException {
+        try {
+            for (int attempt = 1; ; attempt++) {
+                acquire(interactive);
+                try {
+                    return request.execute();
+                } catch (IOException e) {
+                    if (attempt == MAX_ATTEMPTS || !isRetryable(e, idempotent)) {
+                        throw e;
+                    }
+
+                    long delay = backoff(attempt);
+                    LoggerFactory.getLogger(this.getClass()).warn(
+                            "Sheets request throttled, retrying in "
+                                    + delay + " ms.");
+                    Thread.sleep(delay);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(
+                    "Interrupted while waiting on the Sheets quota.");
+        }
+    }
+}